@@ -1,17 +1,18 @@
 package org.ddd4j.infrastructure;
 
-import static java.lang.Integer.bitCount;
-import static java.lang.Integer.highestOneBit;
-import static java.lang.Integer.min;
-
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
+import org.ddd4j.infrastructure.scheduler.ScheduledTask;
+import org.ddd4j.infrastructure.scheduler.Scheduler;
 import org.ddd4j.io.Bytes;
+import org.ddd4j.io.DirectArena;
 import org.ddd4j.io.PooledBytes;
 import org.ddd4j.io.WriteBuffer;
+import org.ddd4j.spi.Context;
 import org.ddd4j.spi.Ref;
 import org.ddd4j.util.collection.Cache;
 import org.ddd4j.value.config.ConfKey;
@@ -21,14 +22,34 @@ import org.ddd4j.value.config.ConfKey;
 public interface Pool<T extends AutoCloseable> extends Supplier<T> {
 
 	ConfKey<Integer> BUFFER_SIZE = ConfKey.ofInteger("bufferSize", 4096);
+	/**
+	 * @deprecated Counts pooled off-heap buffers, use {@link #OFF_HEAP_BUDGET} in bytes instead. Unless a budget is
+	 *             configured, it still sets the budget to this many buffers of the {@link #BUFFER_SIZE}.
+	 */
+	@Deprecated
 	ConfKey<Integer> POOL_SIZE = ConfKey.ofInteger("poolSize", 512);
+	ConfKey<Integer> MAGAZINE_SIZE = ConfKey.ofInteger("magazineSize", 32);
+	ConfKey<Boolean> OFF_HEAP = ConfKey.ofBoolean("offHeap", false);
+	ConfKey<Integer> OFF_HEAP_SLAB_SIZE = ConfKey.ofInteger("offHeap.slabSize", 1 << 20);
+	ConfKey<Long> OFF_HEAP_BUDGET = c -> c.getLong("offHeap.budget")
+			.orElseGet(() -> c.getInteger("poolSize").map(n -> n * (long) BUFFER_SIZE.valueOf(c)).orElse(64L << 20));
+	ConfKey<Integer> BYTE_ARRAY_MAX_SIZE = ConfKey.ofInteger("byteArray.maxSize", 1 << 20);
+	ConfKey<Long> BYTE_ARRAY_BUDGET = ConfKey.ofLong("byteArray.budget", 64L << 20);
+	ConfKey<Cache.Access.SizeClassed.Oversize> BYTE_ARRAY_OVERSIZE = ConfKey.ofEnum(Cache.Access.SizeClassed.Oversize.class,
+			"byteArray.oversize", Cache.Access.SizeClassed.Oversize.ALLOCATE);
+	ConfKey<Long> STATS_INTERVAL_IN_MILLIS = ConfKey.ofLong("statsIntervalInMillis", Long.MAX_VALUE);
+
+	Ref<Cache.Stats.Sink> STATS_SINK = Ref.of("cacheStatsSink", ctx -> Cache.Stats.Sink.NONE);
+
+	Ref<Cache.Stats> BYTE_ARRAY_STATS = Ref.of("byteArrayStats", ctx -> stats(ctx, "byteArrayCache"));
+
+	Ref<Cache.Access.SizeClassed<byte[]>> BYTE_ARRAY_CLASSES = Ref.of("byteArrayClasses",
+			ctx -> Cache.<byte[]>sizeClassed(b -> b.length, 64, ctx.conf(BYTE_ARRAY_MAX_SIZE), ctx.conf(BYTE_ARRAY_BUDGET),
+					ctx.conf(BYTE_ARRAY_OVERSIZE)));
 
 	Ref<Cache.ReadThrough<Integer, byte[]>> BYTE_ARRAY_CACHE = Ref.of("byteArrayCache",
-			ctx -> Cache.<Integer, byte[]>exclusive(b -> b.length)
-					.evict()
-					.withMaximumCapacity(ctx.conf(POOL_SIZE))
-					.lookupValues(Cache.KeyLookup.CEILING, k -> min(bitCount(k) == 1 ? k : highestOneBit(k) << 1, 4096))
-					.withFactory(byte[]::new));
+			ctx -> ctx.get(BYTE_ARRAY_CLASSES).recordStats(ctx.get(BYTE_ARRAY_STATS)).lookupValues(Cache.KeyLookup.CEILING).withFactory(
+					byte[]::new));
 
 	Ref<Cache.ReadThrough<Integer, ByteBuffer>> BYTE_BUFFER_CACHE = Ref.of("byteBufferCache",
 			ctx -> ctx.get(BYTE_ARRAY_CACHE).wrapEntries(ByteBuffer::wrap, ByteBuffer::array));
@@ -36,9 +57,24 @@ public interface Pool<T extends AutoCloseable> extends Supplier<T> {
 	Ref<Cache.ReadThrough<Integer, Bytes.Arrayed>> BYTES_CACHE = Ref.of("bytesCache",
 			ctx -> ctx.get(BYTE_ARRAY_CACHE).wrapEntries(Bytes.Arrayed::new, Bytes.Arrayed::backing));
 
+	Ref<DirectArena> DIRECT_ARENA = Ref.of(DirectArena.class, ctx -> new DirectArena(ctx.conf(OFF_HEAP_SLAB_SIZE)));
+
+	Ref<Cache.ReadThrough<Integer, Bytes.Direct>> DIRECT_BYTES_CACHE = Ref.of("directBytesCache",
+			ctx -> Cache.<Integer, Bytes.Direct>exclusive(Bytes::length)
+					.evict()
+					.weighedBy((k, v) -> v.length())
+					.withMaximumWeight(ctx.conf(OFF_HEAP_BUDGET))
+					.lookupValuesWithEqualKeys()
+					.withFactory(ctx.get(DIRECT_ARENA)::allocate, (k, v) -> v.close()));
+
 	Ref<Pool<Bytes>> POOLED_BYTES = Ref.of("pooledBytesPool", ctx -> {
-		Cache.Pool<Bytes.Arrayed> pool = ctx.get(BYTES_CACHE).pooledBy(ctx.conf(BUFFER_SIZE));
-		return () -> new PooledBytes<>(pool);
+		if (ctx.conf(OFF_HEAP)) {
+			Cache.Pool<Bytes.Direct> pool = ctx.get(DIRECT_BYTES_CACHE).pooledBy(ctx.conf(BUFFER_SIZE)).withMagazines(ctx.conf(MAGAZINE_SIZE));
+			return () -> new PooledBytes<>(pool);
+		} else {
+			Cache.Pool<Bytes.Arrayed> pool = ctx.get(BYTES_CACHE).pooledBy(ctx.conf(BUFFER_SIZE)).withMagazines(ctx.conf(MAGAZINE_SIZE));
+			return () -> new PooledBytes<>(pool);
+		}
 	});
 
 	Ref<Pool<WriteBuffer>> BUFFERS = Ref.of(Pool.class, ctx -> {
@@ -46,6 +82,23 @@ public interface Pool<T extends AutoCloseable> extends Supplier<T> {
 		return () -> bytesPool.get().buffered();
 	});
 
+	/**
+	 * Creates statistics for the named cache, which are published to the {@link #STATS_SINK} periodically, if an interval
+	 * is configured.
+	 */
+	static Cache.Stats stats(Context context, String name) {
+		Cache.Stats stats = new Cache.Stats(name);
+		long interval = context.conf(STATS_INTERVAL_IN_MILLIS);
+		if (interval != Long.MAX_VALUE) {
+			Cache.Stats.Sink sink = context.get(STATS_SINK);
+			context.get(Scheduler.REF).reschedulerFor(s -> s.schedule(() -> {
+				stats.publishTo(sink);
+				return ScheduledTask.Trigger.RESCHEDULE;
+			}, interval, TimeUnit.MILLISECONDS)).doIfNecessary();
+		}
+		return stats;
+	}
+
 	default <X> X use(Consumer<? super T> consumer, Function<? super T, ? extends X> result) {
 		T closeable = get();
 		try {
@@ -107,16 +107,37 @@ public interface Promise<T> extends Monad<T> {
 		private final java.util.concurrent.Future<T> future;
 		private final java.util.concurrent.Delayed delayed;
 
-		public Delayed(Executor executor, java.util.concurrent.Future<T> future, java.util.concurrent.Delayed delayed) {
-			super(executor, new CompletableFuture<>());
+		public Delayed(Executor executor, CompletableFuture<T> stage, java.util.concurrent.Future<T> future,
+				java.util.concurrent.Delayed delayed) {
+			super(executor, stage);
 			this.future = Require.nonNull(future);
 			this.delayed = Require.nonNull(delayed);
 		}
 
+		/**
+		 * Creates a promise completed by the given future. Futures, which are no {@link CompletableFuture}, get polled
+		 * on the executor.
+		 */
+		public Delayed(Executor executor, java.util.concurrent.Future<T> future, java.util.concurrent.Delayed delayed) {
+			this(executor, stageOf(executor, future), future, delayed);
+		}
+
 		public Delayed(Executor executor, ScheduledFuture<T> future) {
 			this(executor, future, future);
 		}
 
+		@SuppressWarnings("unchecked")
+		private static <T> CompletableFuture<T> stageOf(Executor executor, java.util.concurrent.Future<T> future) {
+			Require.nonNulls(executor, future);
+			if (future instanceof CompletableFuture) {
+				return (CompletableFuture<T>) future;
+			} else {
+				Future<T> promise = new Future<>(executor, future, new CompletableFuture<>());
+				executor.execute(promise::poll);
+				return promise.stage;
+			}
+		}
+
 		@Override
 		public boolean cancel() {
 			return future.cancel(false);
@@ -11,7 +11,9 @@ import org.ddd4j.infrastructure.channel.spi.Writer;
 import org.ddd4j.infrastructure.codec.CodecFactory;
 import org.ddd4j.infrastructure.codec.Decoder;
 import org.ddd4j.infrastructure.codec.Encoder;
+import org.ddd4j.infrastructure.domain.value.ChannelName;
 import org.ddd4j.infrastructure.domain.value.ChannelSpec;
+import org.ddd4j.infrastructure.domain.value.CommittedRecords;
 import org.ddd4j.infrastructure.publisher.Publisher;
 import org.ddd4j.infrastructure.publisher.RevisionCallback;
 import org.ddd4j.infrastructure.scheduler.Scheduler;
@@ -20,7 +22,9 @@ import org.ddd4j.io.WriteBuffer;
 import org.ddd4j.spi.Context;
 import org.ddd4j.spi.Ref;
 import org.ddd4j.util.Require;
+import org.ddd4j.util.value.Sequence;
 import org.ddd4j.value.versioned.CommitResult;
+import org.ddd4j.value.versioned.Committed;
 import org.ddd4j.value.versioned.Recorded;
 import org.ddd4j.value.versioned.Revision;
 
@@ -75,7 +79,24 @@ public class Channels {
 	public <K, V> DecodingFactory<K, V> decodingFactory(ChannelSpec<K, V> spec) {
 		Decoder<K> key = spec.getKeyType().decoder(codecFactory());
 		Decoder<V> value = spec.getValueType().decoder(codecFactory());
-		return (c, e) -> c.mapPromised(key::decode, value::decode, e);
+		return (c, e) -> new CommitListener<ReadBuffer, ReadBuffer>() {
+
+			private final CommitListener<ReadBuffer, ReadBuffer> decoding = c.mapPromised(key::decode, value::decode, e);
+
+			@Override
+			public Promise<?> onNext(ChannelName name, Committed<ReadBuffer, ReadBuffer> committed) {
+				return decoding.onNext(name, committed);
+			}
+
+			@Override
+			public void prefetch(CommittedRecords records) {
+				Sequence<Committed<ReadBuffer, ReadBuffer>> commits = records.commits(spec.getName());
+				if (commits.isNotEmpty()) {
+					key.prefetch(commits.map(Committed::getKey));
+					value.prefetch(commits.map(Committed::getValue));
+				}
+			}
+		};
 	}
 
 	public <K, V> Committer<K, V> encodingCommitter(ChannelSpec<K, V> spec, Committer<ReadBuffer, ReadBuffer> committer) {
@@ -0,0 +1,15 @@
+package org.ddd4j.infrastructure.channel.api;
+
+import org.ddd4j.infrastructure.Promise;
+import org.ddd4j.infrastructure.domain.value.ChannelName;
+
+@FunctionalInterface
+public interface BatchListener {
+
+	BatchListener VOID = n -> Promise.completed();
+
+	/**
+	 * Called after a batch of commits has been passed on for the given channel, so it can be flushed once per batch.
+	 */
+	Promise<?> onBatchEnd(ChannelName name);
+}
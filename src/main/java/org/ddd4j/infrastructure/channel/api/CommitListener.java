@@ -4,6 +4,7 @@ import java.util.function.BiFunction;
 
 import org.ddd4j.infrastructure.Promise;
 import org.ddd4j.infrastructure.domain.value.ChannelName;
+import org.ddd4j.infrastructure.domain.value.CommittedRecords;
 import org.ddd4j.io.ReadBuffer;
 import org.ddd4j.util.Require;
 import org.ddd4j.value.versioned.Committed;
@@ -25,4 +26,11 @@ public interface CommitListener<K, V> {
 	}
 
 	Promise<?> onNext(ChannelName name, Committed<K, V> committed);
+
+	/**
+	 * Called with all records read at once, before they are passed on one by one, so that listeners can prepare them
+	 * in bulk.
+	 */
+	default void prefetch(CommittedRecords records) {
+	}
 }
\ No newline at end of file
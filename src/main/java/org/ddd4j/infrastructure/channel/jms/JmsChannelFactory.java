@@ -37,7 +37,7 @@ public class JmsChannelFactory implements HotSource.Factory, Writer.Factory {
 
 	public JmsChannelFactory(Context context) {
 		JMSContext jmsContext = context.get(CONNECTION_FACTORY).createContext(JMSContext.DUPS_OK_ACKNOWLEDGE);
-		this.client = context.get(Scheduler.REF).createAgent(jmsContext);
+		this.client = context.get(Scheduler.REF).createAgent(jmsContext, 1);
 	}
 
 	@Override
@@ -17,9 +17,7 @@ import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.common.header.Header;
-import org.apache.kafka.common.header.internals.RecordHeader;
 import org.apache.kafka.common.serialization.ByteArrayDeserializer;
-import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.ddd4j.infrastructure.channel.api.CommitListener;
 import org.ddd4j.infrastructure.channel.api.CompletionListener;
 import org.ddd4j.infrastructure.channel.api.ErrorListener;
@@ -29,6 +27,7 @@ import org.ddd4j.infrastructure.channel.spi.Committer;
 import org.ddd4j.infrastructure.channel.spi.DataAccessFactory;
 import org.ddd4j.infrastructure.channel.spi.HotSource;
 import org.ddd4j.infrastructure.channel.spi.Writer;
+import org.ddd4j.infrastructure.domain.header.Headers;
 import org.ddd4j.infrastructure.domain.value.ChannelName;
 import org.ddd4j.infrastructure.domain.value.CommittedRecords;
 import org.ddd4j.infrastructure.scheduler.Scheduler;
@@ -61,16 +60,14 @@ public class KafkaChannelFactory implements ColdSource.Factory, HotSource.Factor
 	static final ZoneOffset ZONE_OFFSET = ZoneOffset.UTC; // TODO
 
 	private static final ByteArrayDeserializer DESERIALIZER = new ByteArrayDeserializer();
-	private static final ByteArraySerializer SERIALIZER = new ByteArraySerializer();
+	private static final ReadBufferSerializer SERIALIZER = new ReadBufferSerializer();
 
-	static ProducerRecord<byte[], byte[]> convert(ChannelName name, Recorded<ReadBuffer, ReadBuffer> recorded) {
+	static ProducerRecord<ReadBuffer, ReadBuffer> convert(ChannelName name, Recorded<ReadBuffer, ReadBuffer> recorded) {
 		int partition = recorded.partition(ReadBuffer::hash); // TODO partionCount needed
 		long timestamp = recorded.getTimestamp().toEpochMilli();
-		byte[] key = recorded.getKey().toByteArray();
-		byte[] value = recorded.getValue().toByteArray();
 		List<Header> headers = new ArrayList<>();
-		recorded.getHeaders().forEach((k, v) -> headers.add(new RecordHeader(k, v.toByteArray())));
-		return new ProducerRecord<>(name.value(), partition, timestamp, key, value, headers);
+		recorded.getHeaders().forEach((k, v) -> headers.add(new ReadBufferSerializer.BufferHeader(k, v)));
+		return new ProducerRecord<>(name.value(), partition, timestamp, recorded.getKey(), recorded.getValue(), headers);
 	}
 
 	static Committed<ReadBuffer, ReadBuffer> convert(ConsumerRecord<byte[], byte[]> record) {
@@ -79,9 +76,18 @@ public class KafkaChannelFactory implements ColdSource.Factory, HotSource.Factor
 		Revision actual = new Revision(record.partition(), record.offset());
 		Revision next = actual.increment(1);
 		Instant timestamp = Instant.ofEpochMilli(record.timestamp());
-		Map<String, ReadBuffer> headers = new HashMap<>();
-		record.headers().forEach(h -> headers.put(h.key(), Bytes.wrap(h.value()).buffered()));
-		return DataAccessFactory.committed(key, value, actual, next, timestamp, headers);
+		return DataAccessFactory.committed(key, value, actual, next, timestamp, convert(record.headers()));
+	}
+
+	static Headers convert(org.apache.kafka.common.header.Headers headers) {
+		return Headers.lazy(k -> {
+			Header header = headers.lastHeader(k);
+			return header != null ? Bytes.wrap(header.value()).buffered() : null;
+		}, () -> {
+			Map<String, ReadBuffer> values = new HashMap<>();
+			headers.forEach(h -> values.put(h.key(), Bytes.wrap(h.value()).buffered()));
+			return values;
+		});
 	}
 
 	static CommittedRecords convert(ConsumerRecords<byte[], byte[]> records) {
@@ -101,7 +107,7 @@ public class KafkaChannelFactory implements ColdSource.Factory, HotSource.Factor
 	}
 
 	private final Context context;
-	private final Lazy<Producer<byte[], byte[]>> producer;
+	private final Lazy<Producer<ReadBuffer, ReadBuffer>> producer;
 	private final Lazy<Consumer<byte[], byte[]>> hotConsumer;
 
 	public KafkaChannelFactory(Context context) {
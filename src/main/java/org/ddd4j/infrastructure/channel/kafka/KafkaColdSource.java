@@ -43,7 +43,7 @@ public class KafkaColdSource implements ColdSource, ScheduledTask {
 
 	KafkaColdSource(Scheduler scheduler, Consumer<byte[], byte[]> consumer, CommitListener<ReadBuffer, ReadBuffer> commit,
 			ErrorListener error, CompletionListener completion) {
-		this.client = scheduler.createAgent(consumer);
+		this.client = scheduler.createAgent(consumer, 1);
 		this.commit = Require.nonNull(commit);
 		this.error = Require.nonNull(error);
 		this.completion = Require.nonNull(completion);
@@ -80,6 +80,7 @@ public class KafkaColdSource implements ColdSource, ScheduledTask {
 				.thenApply(KafkaChannelFactory::convert)
 				.on(CommittedRecords::isEmpty, this::checkCompleteness)
 				.whenCompleteSuccessfully(cr -> cr.forEach(state::tryUpdate))
+				.whenCompleteSuccessfully(commit::prefetch)
 				.whenCompleteSuccessfully(cr -> cr.forEach(commit::onNext))
 				.whenCompleteExceptionally(error::onError)
 				.thenReturn(this::triggering);
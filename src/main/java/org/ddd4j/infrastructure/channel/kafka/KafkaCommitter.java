@@ -14,10 +14,10 @@ import org.ddd4j.value.versioned.Uncommitted;
 public class KafkaCommitter implements Committer<ReadBuffer, ReadBuffer> {
 
 	private final Scheduler scheduler;
-	private final Producer<byte[], byte[]> client;
+	private final Producer<ReadBuffer, ReadBuffer> client;
 	private final ChannelName name;
 
-	public KafkaCommitter(Scheduler scheduler, Producer<byte[], byte[]> client, ChannelName name) {
+	public KafkaCommitter(Scheduler scheduler, Producer<ReadBuffer, ReadBuffer> client, ChannelName name) {
 		this.scheduler = Require.nonNull(scheduler);
 		this.client = Require.nonNull(client);
 		this.name = Require.nonNull(name);
@@ -73,7 +73,7 @@ public class KafkaHotSource implements HotSource, ScheduledTask {
 			ErrorListener error, RebalanceListener rebalance) {
 		this.commit = Require.nonNull(commit);
 		this.callback = new KafkaRebalanceCallback(consumer, commit, error, rebalance);
-		this.client = scheduler.createAgent(consumer);
+		this.client = scheduler.createAgent(consumer, 1);
 		this.rescheduler = scheduler.reschedulerFor(this);
 		this.subscriptions = new ConcurrentHashMap<>();
 	}
@@ -14,10 +14,10 @@ import org.ddd4j.value.versioned.Revision;
 public class KafkaWriter implements Writer<ReadBuffer, ReadBuffer> {
 
 	private final Scheduler scheduler;
-	private final Producer<byte[], byte[]> client;
+	private final Producer<ReadBuffer, ReadBuffer> client;
 	private final ChannelName name;
 
-	public KafkaWriter(Scheduler scheduler, Producer<byte[], byte[]> client, ChannelName name) {
+	public KafkaWriter(Scheduler scheduler, Producer<ReadBuffer, ReadBuffer> client, ChannelName name) {
 		this.scheduler = Require.nonNull(scheduler);
 		this.client = Require.nonNull(client);
 		this.name = Require.nonNull(name);
@@ -0,0 +1,52 @@
+package org.ddd4j.infrastructure.channel.kafka;
+
+import java.util.Map;
+
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.serialization.Serializer;
+import org.ddd4j.io.ReadBuffer;
+import org.ddd4j.util.Require;
+
+public class ReadBufferSerializer implements Serializer<ReadBuffer> {
+
+	/**
+	 * Copies the buffer on the first call of {@link #value()} only, as Kafka asks for the value more than once per record.
+	 */
+	static class BufferHeader implements Header {
+
+		private final String key;
+		private final ReadBuffer value;
+		private byte[] array;
+
+		BufferHeader(String key, ReadBuffer value) {
+			this.key = Require.nonNull(key);
+			this.value = Require.nonNull(value);
+		}
+
+		@Override
+		public String key() {
+			return key;
+		}
+
+		@Override
+		public byte[] value() {
+			if (array == null) {
+				array = value.asByteArray();
+			}
+			return array;
+		}
+	}
+
+	@Override
+	public void close() {
+	}
+
+	@Override
+	public void configure(Map<String, ?> configs, boolean isKey) {
+	}
+
+	@Override
+	public byte[] serialize(String topic, ReadBuffer data) {
+		return data != null ? data.asByteArray() : null;
+	}
+}
@@ -6,10 +6,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Supplier;
 
 import org.ddd4j.infrastructure.Promise;
-import org.ddd4j.infrastructure.Promise.Cancelable;
 import org.ddd4j.infrastructure.channel.api.CommitListener;
 import org.ddd4j.infrastructure.channel.api.CompletionListener;
 import org.ddd4j.infrastructure.channel.api.ErrorListener;
@@ -54,19 +52,22 @@ public interface ColdReader extends TimeIndexed {
 
 		private static class Listener implements CommitListener<ReadBuffer, ReadBuffer>, ErrorListener, CompletionListener {
 
+			private final Scheduler scheduler;
 			private final Promise.Deferred<CommittedRecords> deferred;
 			private final ColdSource source;
 			private final Map<ChannelName, List<Committed<ReadBuffer, ReadBuffer>>> records;
-			private final Supplier<Promise.Cancelable<?>> timerProvider;
-			private Cancelable<?> timer;
+			private final int timeoutInMillis;
+			private volatile long lastActivityInMillis;
 
 			Listener(Scheduler scheduler, ColdSource.Factory delegate, Sequence<ChannelRevision> revisions, int timeoutInMillis) {
+				this.scheduler = Require.nonNull(scheduler);
 				this.deferred = scheduler.createDeferredPromise();
 				this.source = delegate.createColdSource(this, this, this);
 				this.records = new HashMap<>();
-				this.timerProvider = () -> scheduler.schedule(this::timeout, timeoutInMillis, TimeUnit.MILLISECONDS);
+				this.timeoutInMillis = timeoutInMillis;
+				this.lastActivityInMillis = System.currentTimeMillis();
 				source.start(revisions);
-				timer = timerProvider.get();
+				scheduleTimeout(timeoutInMillis);
 			}
 
 			Promise<CommittedRecords> getResult() {
@@ -91,15 +92,29 @@ public interface ColdReader extends TimeIndexed {
 					source.close();
 				} else {
 					records.computeIfAbsent(name, r -> new ArrayList<>()).add(committed);
-					timer.cancel();
-					timer = timerProvider.get();
+					lastActivityInMillis = System.currentTimeMillis();
 				}
 				return Promise.completed();
 			}
 
+			private void scheduleTimeout(long delayInMillis) {
+				scheduler.schedule(this::timeout, delayInMillis, TimeUnit.MILLISECONDS);
+			}
+
+			/**
+			 * Records only touch their activity, so the timer is not rescheduled per record, but re-armed for the
+			 * remaining time, if records arrived meanwhile.
+			 */
 			void timeout() {
-				source.close();
-				deferred.completeSuccessfully(CommittedRecords.copied(records));
+				long idleInMillis = System.currentTimeMillis() - lastActivityInMillis;
+				if (deferred.isDone()) {
+					return;
+				} else if (idleInMillis < timeoutInMillis) {
+					scheduleTimeout(timeoutInMillis - idleInMillis);
+				} else {
+					source.close();
+					deferred.completeSuccessfully(CommittedRecords.copied(records));
+				}
 			}
 		}
 
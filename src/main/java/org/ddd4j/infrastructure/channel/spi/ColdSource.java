@@ -11,6 +11,7 @@ import org.ddd4j.infrastructure.domain.ChannelRevisions;
 import org.ddd4j.infrastructure.domain.value.ChannelName;
 import org.ddd4j.infrastructure.domain.value.ChannelPartition;
 import org.ddd4j.infrastructure.domain.value.ChannelRevision;
+import org.ddd4j.infrastructure.domain.value.CommittedRecords;
 import org.ddd4j.infrastructure.scheduler.ScheduledTask;
 import org.ddd4j.infrastructure.scheduler.Scheduler;
 import org.ddd4j.io.ReadBuffer;
@@ -72,6 +73,11 @@ public interface ColdSource extends FlowControlled<ChannelPartition>, TimeIndexe
 			return commit.onNext(name, committed).thenApply(v -> state.tryUpdate(name, committed));
 		}
 
+		@Override
+		public void prefetch(CommittedRecords records) {
+			commit.prefetch(records);
+		}
+
 		@Override
 		public Promise<ChannelRevision> revision(ChannelPartition partition, Instant timestamp, Direction direction) {
 			return delegate.revision(partition, timestamp, direction);
@@ -156,6 +162,7 @@ public interface ColdSource extends FlowControlled<ChannelPartition>, TimeIndexe
 		public Promise<Trigger> onScheduled(Scheduler scheduler) {
 			return delegate.get(state.without(paused))
 					.whenCompleteSuccessfully(cr -> cr.forEach(state::tryUpdate))
+					.whenCompleteSuccessfully(commit::prefetch)
 					.whenCompleteSuccessfully(cr -> cr.forEachOrEmpty(commit::onNext, completion::onComplete))
 					.whenCompleteExceptionally(error::onError)
 					.thenApply(rc -> state.isNotEmpty() && rc.isNotEmpty() ? Trigger.RESCHEDULE : Trigger.NOTHING);
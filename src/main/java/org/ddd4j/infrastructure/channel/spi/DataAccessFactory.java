@@ -13,9 +13,14 @@ import org.ddd4j.value.versioned.Revision;
 
 public interface DataAccessFactory extends Throwing.Closeable {
 
+	static Committed<ReadBuffer, ReadBuffer> committed(ReadBuffer key, ReadBuffer value, Revision actual, Revision next, Instant timestamp,
+			Headers headers) {
+		return new Committed<>(key.mark(), value.mark(), actual, next, timestamp, headers);
+	}
+
 	static Committed<ReadBuffer, ReadBuffer> committed(ReadBuffer key, ReadBuffer value, Revision actual, Revision next, Instant timestamp,
 			Map<String, ReadBuffer> headers) {
-		return new Committed<>(key.mark(), value.mark(), actual, next, timestamp, new Headers(headers));
+		return committed(key, value, actual, next, timestamp, new Headers(headers));
 	}
 
 	@Override
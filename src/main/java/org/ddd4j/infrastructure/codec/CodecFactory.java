@@ -1,10 +1,15 @@
 package org.ddd4j.infrastructure.codec;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 
 import org.ddd4j.infrastructure.Promise;
 import org.ddd4j.infrastructure.codec.compressed.CompressedSchemaCodec;
 import org.ddd4j.infrastructure.domain.value.ChannelName;
+import org.ddd4j.io.ReadBuffer;
 import org.ddd4j.io.codec.Decoding;
 import org.ddd4j.io.codec.Encoding;
 import org.ddd4j.schema.Schema;
@@ -16,7 +21,9 @@ import org.ddd4j.util.Lazy;
 import org.ddd4j.util.Require;
 import org.ddd4j.util.Type;
 import org.ddd4j.util.value.Monad;
+import org.ddd4j.util.value.Sequence;
 import org.ddd4j.value.config.ConfKey;
+import org.ddd4j.value.versioned.Revision;
 
 public class CodecFactory {
 
@@ -38,11 +45,29 @@ public class CodecFactory {
 
 	public <T, R> Decoder<R> decoder(ChannelName name, Type<T> readerType, Decoding<Supplier<T>, R> decoding) {
 		Require.nonNulls(name, readerType, decoding);
-		return (buf, rev) -> {
-			Lazy<Monad<Supplier<T>>> schemaReader = Lazy.of(() -> schemaCodecs.get(buf.getUnsignedVarInt()) //
-					.decode(buf, rev, name)
-					.thenApply(s -> s.createReader(readerType).asSupplier(buf)));
-			return decoding.decode(buf, Promise::completed, schemaReader).casted();
+		return new Decoder<R>() {
+
+			@Override
+			public Promise<R> decode(ReadBuffer buf, Revision rev) {
+				Lazy<Monad<Supplier<T>>> schemaReader = Lazy.of(() -> schemaCodecs.get(buf.getUnsignedVarInt()) //
+						.decode(buf, rev, name)
+						.thenApply(s -> s.createReader(readerType).asSupplier(buf)));
+				return decoding.decode(buf, Promise::completed, schemaReader).casted();
+			}
+
+			/**
+			 * Runs the decoding on duplicates of the buffers up to their schemas, which are then prefetched per schema
+			 * codec. Nothing after a schema is decoded, as its reader is never completed.
+			 */
+			@Override
+			public void prefetch(Sequence<ReadBuffer> buffers) {
+				Map<Integer, List<ReadBuffer>> schemas = new HashMap<>();
+				buffers.map(ReadBuffer::duplicate).forEach(buf -> decoding.decode(buf, Promise::completed, () -> {
+					schemas.computeIfAbsent(buf.getUnsignedVarInt(), i -> new ArrayList<>()).add(buf);
+					return Promise.deferred(Runnable::run);
+				}));
+				schemas.forEach((index, bufs) -> schemaCodecs.get(index).prefetch(name, Sequence.ofCopied(bufs)));
+			}
 		};
 	}
 
@@ -5,6 +5,7 @@ import java.util.function.Function;
 import org.ddd4j.infrastructure.Promise;
 import org.ddd4j.io.ReadBuffer;
 import org.ddd4j.util.Require;
+import org.ddd4j.util.value.Sequence;
 import org.ddd4j.value.versioned.Revision;
 
 @FunctionalInterface
@@ -16,4 +17,10 @@ public interface Decoder<T> {
 	}
 
 	Promise<T> decode(ReadBuffer buffer, Revision revision);
+
+	/**
+	 * Prepares the decoding of the given buffers in bulk, without consuming them.
+	 */
+	default void prefetch(Sequence<ReadBuffer> buffers) {
+	}
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import org.ddd4j.io.WriteBuffer;
 import org.ddd4j.schema.Schema;
 import org.ddd4j.spi.Ref;
 import org.ddd4j.util.value.Named;
+import org.ddd4j.util.value.Sequence;
 import org.ddd4j.value.versioned.Revision;
 
 public interface SchemaCodec extends Named {
@@ -16,4 +17,11 @@ public interface SchemaCodec extends Named {
 	Promise<Schema<?>> decode(ReadBuffer buffer, Revision revision, ChannelName name);
 
 	Promise<?> encode(WriteBuffer buffer, Promise<Revision> revision, ChannelName name, Schema<?> schema);
+
+	/**
+	 * Prepares the decoding of the schemas in the given buffers in bulk. The buffers are positioned like for
+	 * {@link #decode(ReadBuffer, Revision, ChannelName)} and may be consumed.
+	 */
+	default void prefetch(ChannelName name, Sequence<ReadBuffer> buffers) {
+	}
 }
@@ -1,50 +1,100 @@
 package org.ddd4j.infrastructure.codec.compressed;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
+import org.ddd4j.infrastructure.Pool;
 import org.ddd4j.infrastructure.Promise;
 import org.ddd4j.infrastructure.channel.spi.ColdReader;
 import org.ddd4j.infrastructure.domain.value.ChannelName;
 import org.ddd4j.infrastructure.domain.value.ChannelRevision;
+import org.ddd4j.infrastructure.domain.value.CommittedRecords;
+import org.ddd4j.infrastructure.scheduler.ScheduledTask;
+import org.ddd4j.infrastructure.scheduler.Scheduler;
+import org.ddd4j.io.ReadBuffer;
 import org.ddd4j.schema.Fingerprint;
 import org.ddd4j.schema.Schema;
 import org.ddd4j.schema.SchemaFactory;
 import org.ddd4j.spi.Context;
 import org.ddd4j.spi.Context.IndexedService;
 import org.ddd4j.util.collection.Cache;
+import org.ddd4j.util.value.Sequence;
 import org.ddd4j.value.versioned.Revision;
 
 class ChannelBasedSchemaCache implements SchemaCache {
 
+	private static <K, V> Cache.Access<K, V> expiring(Cache.Access<K, V> access, long expireAfterAccess, long tick) {
+		if (expireAfterAccess == Long.MAX_VALUE) {
+			return access;
+		}
+		return access.expireAfter(Cache.Expiry.afterAccess(expireAfterAccess, TimeUnit.MILLISECONDS)).withTick(tick, TimeUnit.MILLISECONDS);
+	}
+
 	private final IndexedService<SchemaFactory> factory;
 	private final ConcurrentMap<Fingerprint, Revision> locations;
-	private final Cache.Aside<ChannelRevision, Promise<Schema<?>>> cache;
+	private final Scheduler scheduler;
 	private final ColdReader reader;
+	private final Cache.AsyncReadThrough<ChannelRevision, Schema<?>> cache;
 
 	ChannelBasedSchemaCache(Context context) {
 		this.factory = context.specific(SchemaFactory.REF, SchemaFactory.KEY);
 		this.locations = new ConcurrentHashMap<>();
-		this.cache = Cache.sharedOnEqualKey(
-				a -> a.evict(Cache.EvictStrategy.LAST_ACQUIRED).withMaximumCapacity(context.conf(Cache.MAX_CAPACITY)).on().evicted(
-						p -> p.whenCompleteSuccessfully(s -> locations.remove(s.getFingerprint()))));
+		this.scheduler = context.get(Scheduler.REF);
 		this.reader = context.get(ColdReader.FACTORY).createColdReader();
+		long expireAfterAccess = context.conf(Cache.EXPIRE_AFTER_ACCESS_IN_MILLIS);
+		long tick = context.conf(Cache.EXPIRY_TICK_IN_MILLIS);
+		this.cache = Cache.<ChannelRevision, Schema<?>>sharedOnEqualKeyAsync(
+				a -> Cache.striped(context.conf(Cache.STRIPES), expiring(
+						a.evict(Cache.EvictStrategy.LEAST_FREQUENT).withMaximumCapacity(context.conf(Cache.MAX_CAPACITY)).on().evicted(
+								l -> l.getValue().thenAccept(s -> locations.remove(s.getFingerprint()))),
+						expireAfterAccess, tick)).recordStats(Pool.stats(context, "schemaCache")),
+				rev -> reader.getCommittedValue(rev).thenApply(this::readSchema).toCompletionStage()).withBulkLoader(
+						revs -> reader.get(Sequence.ofCopied(revs)).thenApply(records -> readSchemas(revs, records)).toCompletionStage());
+		if (expireAfterAccess != Long.MAX_VALUE) {
+			scheduler.reschedulerFor(s -> s.schedule(() -> {
+				cache.expire();
+				return ScheduledTask.Trigger.RESCHEDULE;
+			}, tick, TimeUnit.MILLISECONDS)).doIfNecessary();
+		}
 	}
 
 	@Override
 	public Promise<Schema<?>> get(ChannelName name, Revision revision) {
-		return cache.acquire(new ChannelRevision(name, revision),
-				rev -> reader.getCommittedValue(rev).whenCompleteExceptionally(ex -> cache.evictAll(rev)).thenApply(
-						buf -> factory.get(buf.getUnsignedVarInt()).readSchema(buf)));
+		return scheduler.createOutcome(cache.acquire(new ChannelRevision(name, revision)));
+	}
+
+	@Override
+	public Map<ChannelRevision, Promise<Schema<?>>> getAll(Collection<ChannelRevision> revisions) {
+		Map<ChannelRevision, Promise<Schema<?>>> schemas = new LinkedHashMap<>();
+		cache.acquireAll(revisions).forEach((rev, stage) -> schemas.put(rev, scheduler.createOutcome(stage)));
+		return schemas;
 	}
 
 	@Override
 	public void put(ChannelName name, Revision revision, Schema<?> schema) {
-		cache.acquire(new ChannelRevision(name, revision), rev -> {
-			locations.put(schema.getFingerprint(), revision);
-			return Promise.completed(schema);
-		});
+		cache.put(new ChannelRevision(name, revision), schema);
+		locations.put(schema.getFingerprint(), revision);
+	}
+
+	private Schema<?> readSchema(ReadBuffer buffer) {
+		return factory.get(buffer.getUnsignedVarInt()).readSchema(buffer);
+	}
+
+	private Map<ChannelRevision, Schema<?>> readSchemas(Set<ChannelRevision> revisions, CommittedRecords records) {
+		Map<ChannelRevision, Schema<?>> schemas = new HashMap<>();
+		for (ChannelRevision rev : revisions) {
+			records.commits(rev.getName())
+					.filter(c -> c.getActual().equals(rev.getRevision()))
+					.forEach(c -> schemas.put(rev, readSchema(c.getValue())));
+		}
+		return schemas;
 	}
 
 	@Override
@@ -1,8 +1,12 @@
 package org.ddd4j.infrastructure.codec.compressed;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.ddd4j.infrastructure.Promise;
 import org.ddd4j.infrastructure.codec.SchemaCodec;
 import org.ddd4j.infrastructure.domain.value.ChannelName;
+import org.ddd4j.infrastructure.domain.value.ChannelRevision;
 import org.ddd4j.io.ReadBuffer;
 import org.ddd4j.io.WriteBuffer;
 import org.ddd4j.schema.Schema;
@@ -11,6 +15,7 @@ import org.ddd4j.spi.Context.IndexedService;
 import org.ddd4j.spi.ServiceBinder;
 import org.ddd4j.spi.ServiceConfigurer;
 import org.ddd4j.util.Require;
+import org.ddd4j.util.value.Sequence;
 import org.ddd4j.value.versioned.Revision;
 
 public class CompressedSchemaCodec implements SchemaCodec {
@@ -55,6 +60,19 @@ public class CompressedSchemaCodec implements SchemaCodec {
 		return Promise.completed();
 	}
 
+	/**
+	 * Resolves all referenced schemas with a single {@link SchemaCache#getAll(java.util.Collection)}, so the uncached
+	 * ones are read at once.
+	 */
+	@Override
+	public void prefetch(ChannelName name, Sequence<ReadBuffer> buffers) {
+		Set<ChannelRevision> revisions = new HashSet<>();
+		buffers.filter(ReadBuffer::getBoolean).forEach(buf -> revisions.add(new ChannelRevision(name, Revision.deserialize(buf))));
+		if (!revisions.isEmpty()) {
+			cache.getAll(revisions);
+		}
+	}
+
 	@Override
 	public String name() {
 		return NAME;
@@ -1,9 +1,12 @@
 package org.ddd4j.infrastructure.codec.compressed;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import org.ddd4j.infrastructure.Promise;
 import org.ddd4j.infrastructure.domain.value.ChannelName;
+import org.ddd4j.infrastructure.domain.value.ChannelRevision;
 import org.ddd4j.schema.Schema;
 import org.ddd4j.spi.Ref;
 import org.ddd4j.value.versioned.Revision;
@@ -14,6 +17,11 @@ public interface SchemaCache {
 
 	Promise<Schema<?>> get(ChannelName name, Revision revision);
 
+	/**
+	 * Resolves the schemas of all given revisions, reading the uncached ones at once.
+	 */
+	Map<ChannelRevision, Promise<Schema<?>>> getAll(Collection<ChannelRevision> revisions);
+
 	void put(ChannelName name, Revision revision, Schema<?> schema);
 
 	Optional<Revision> revisionOf(Schema<?> schema);
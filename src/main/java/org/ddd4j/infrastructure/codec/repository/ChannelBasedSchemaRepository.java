@@ -42,7 +42,9 @@ class ChannelBasedSchemaRepository implements SchemaRepository {
 		Writer<Fingerprint, Schema<?>> writer = context.get(Writer.FACTORY).createWriterClosingBuffers(repoName).map(Fingerprint::asBuffer,
 				s -> bufferPool.apply(b -> b.putUTF(schemaFactoryName).accept(s::serialize)));
 		Cache.Aside<Fingerprint, Promise<Schema<?>>> cache = Cache.<Fingerprint, Promise<Schema<?>>>sharedOnEqualKey(
-				a -> a.evict(Cache.EvictStrategy.LAST_ACQUIRED).withMaximumCapacity(context.conf(Cache.MAX_CAPACITY)));
+				a -> Cache.striped(context.conf(Cache.STRIPES),
+						a.evict(Cache.EvictStrategy.LEAST_FREQUENT).withMaximumCapacity(context.conf(Cache.MAX_CAPACITY)))
+						.recordStats(Pool.stats(context, "schemaRepository")));
 		this.cache = cache.writeThrough(
 				fp -> reader.getValueFailOnMissing(fp).whenCompleteExceptionally(ex -> cache.evictAll(fp)).ordered(),
 				(fp, n, o, u) -> (o.isPresent() ? o.get().thenCombine(n, ChannelBasedSchemaRepository::notEqual) : n).thenRun(u)
@@ -6,10 +6,14 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.ddd4j.io.ReadBuffer;
+import org.ddd4j.io.StringInterner;
 import org.ddd4j.io.WriteBuffer;
+import org.ddd4j.util.Lazy;
 import org.ddd4j.util.Require;
+import org.ddd4j.util.Throwing.Producer;
 
 public class Headers {
 
@@ -19,20 +23,36 @@ public class Headers {
 		int size = buffer.getInt();
 		Map<String, ReadBuffer> values = new HashMap<>(size);
 		for (int i = 0; i < size; i++) {
-			values.put(buffer.getUTF(), buffer.duplicate().limitToRemaining(buffer.getInt()));
+			values.put(buffer.getUTF(StringInterner.DEFAULT), buffer.duplicate().limitToRemaining(buffer.getInt()));
 		}
 		return new Headers(values);
 	}
 
-	private final Map<String, ReadBuffer> values;
+	public static Headers lazy(Function<String, ReadBuffer> lookup, Producer<Map<String, ReadBuffer>> values) {
+		return new Headers(lookup, Lazy.of(values));
+	}
+
+	private final Function<String, ReadBuffer> lookup;
+	private final Lazy<Map<String, ReadBuffer>> values;
+
+	private Headers(Function<String, ReadBuffer> lookup, Lazy<Map<String, ReadBuffer>> values) {
+		this.lookup = Require.nonNull(lookup);
+		this.values = Require.nonNull(values);
+	}
 
 	private Headers(Headers copy, Consumer<Map<String, ReadBuffer>> change) {
-		this.values = new HashMap<>(copy.values);
-		change.accept(this.values);
+		this(new HashMap<>(copy.values()), change);
+	}
+
+	private Headers(Map<String, ReadBuffer> values, Consumer<Map<String, ReadBuffer>> change) {
+		change.accept(values);
+		this.lookup = values::get;
+		this.values = Lazy.of(() -> values);
 	}
 
 	public Headers(Map<String, ReadBuffer> values) {
-		this.values = new HashMap<>(values);
+		this(new HashMap<>(values), m -> {
+		});
 	}
 
 	public boolean contains(HeaderKey<?> key) {
@@ -40,11 +60,11 @@ public class Headers {
 	}
 
 	public boolean contains(String key) {
-		return values.containsKey(key);
+		return lookup.apply(key) != null;
 	}
 
 	public void forEach(BiConsumer<? super String, ? super ReadBuffer> action) {
-		values.forEach((k, v) -> action.accept(k, v.duplicate()));
+		values().forEach((k, v) -> action.accept(k, v.duplicate()));
 	}
 
 	public <X> Optional<X> get(HeaderKey<X> key) {
@@ -52,15 +72,19 @@ public class Headers {
 	}
 
 	public Optional<ReadBuffer> get(String key) {
-		return Optional.ofNullable(values.get(key)).map(ReadBuffer::duplicate);
+		return Optional.ofNullable(lookup.apply(key)).map(ReadBuffer::duplicate);
 	}
 
 	public WriteBuffer serialize(WriteBuffer buffer) {
-		buffer.putInt(values.size());
+		buffer.putInt(values().size());
 		forEach((k, v) -> buffer.putUTF(k).putInt(v.remaining()).put(v));
 		return buffer;
 	}
 
+	private Map<String, ReadBuffer> values() {
+		return values.get();
+	}
+
 	public <X> Headers with(HeaderKey<X> key, X value, WriteBuffer buffer) {
 		return with(key.getName(), key.serialize(value, buffer).flip());
 	}
@@ -2,6 +2,8 @@ package org.ddd4j.infrastructure.domain.value;
 
 import java.util.regex.Pattern;
 
+import org.ddd4j.io.ReadBuffer;
+import org.ddd4j.io.StringInterner;
 import org.ddd4j.util.Require;
 import org.ddd4j.util.value.Value;
 
@@ -9,6 +11,10 @@ public class ChannelName extends Value.StringBased<ChannelName> {
 
 	private static final Pattern ALLOWED = Pattern.compile("\\w{2,30}");
 
+	public static ChannelName deserialize(ReadBuffer buffer) {
+		return of(buffer.getUTF(StringInterner.DEFAULT));
+	}
+
 	public static ChannelName of(String value) {
 		return new ChannelName(Require.that(value, ALLOWED.matcher(value).matches()));
 	}
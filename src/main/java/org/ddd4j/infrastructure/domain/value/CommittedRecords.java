@@ -1,9 +1,11 @@
 package org.ddd4j.infrastructure.domain.value;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 
 import org.ddd4j.io.ReadBuffer;
@@ -23,9 +25,11 @@ public class CommittedRecords {
 	}
 
 	private final Map<ChannelName, Sequence<Committed<ReadBuffer, ReadBuffer>>> values;
+	private final Map<ChannelName, Map<Long, List<Committed<ReadBuffer, ReadBuffer>>>> keyIndex;
 
 	private CommittedRecords(Map<ChannelName, Sequence<Committed<ReadBuffer, ReadBuffer>>> values) {
 		this.values = Require.nonNull(values);
+		this.keyIndex = new ConcurrentHashMap<>();
 	}
 
 	public Committed<ReadBuffer, ReadBuffer> commit(ChannelName name, Revision actual) {
@@ -41,7 +45,8 @@ public class CommittedRecords {
 	}
 
 	public Sequence<Committed<ReadBuffer, ReadBuffer>> commits(ChannelName name, ReadBuffer key) {
-		return commits(name).filter(c -> c.getKey().equals(key)); // TODO
+		List<Committed<ReadBuffer, ReadBuffer>> candidates = keyIndex.computeIfAbsent(name, this::indexKeys).get(key.hash64());
+		return candidates != null ? Sequence.ofCopied(candidates).filter(c -> c.getKey().equals(key)) : Sequence.empty();
 	}
 
 	public void forEach(BiConsumer<ChannelName, Committed<ReadBuffer, ReadBuffer>> consumer) {
@@ -56,6 +61,12 @@ public class CommittedRecords {
 		}
 	}
 
+	private Map<Long, List<Committed<ReadBuffer, ReadBuffer>>> indexKeys(ChannelName name) {
+		Map<Long, List<Committed<ReadBuffer, ReadBuffer>>> index = new HashMap<>();
+		commits(name).forEach(c -> index.computeIfAbsent(c.getKey().hash64(), h -> new ArrayList<>(1)).add(c));
+		return index;
+	}
+
 	public boolean isEmpty() {
 		return values.isEmpty();
 	}
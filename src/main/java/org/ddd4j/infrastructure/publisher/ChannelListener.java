@@ -1,13 +1,21 @@
 package org.ddd4j.infrastructure.publisher;
 
+import org.ddd4j.infrastructure.Promise;
+import org.ddd4j.infrastructure.channel.api.BatchListener;
 import org.ddd4j.infrastructure.channel.api.CommitListener;
 import org.ddd4j.infrastructure.channel.api.ErrorListener;
 import org.ddd4j.infrastructure.channel.api.RebalanceListener;
 import org.ddd4j.infrastructure.channel.spi.FlowControlled;
+import org.ddd4j.infrastructure.domain.value.ChannelName;
 import org.ddd4j.io.ReadBuffer;
 import org.ddd4j.util.Throwing.Closeable;
 
 //TODO needed?
 public interface ChannelListener
-		extends CommitListener<ReadBuffer, ReadBuffer>, ErrorListener, RebalanceListener, FlowControlled<Void>, Closeable {
+		extends CommitListener<ReadBuffer, ReadBuffer>, BatchListener, ErrorListener, RebalanceListener, FlowControlled<Void>, Closeable {
+
+	@Override
+	default Promise<?> onBatchEnd(ChannelName name) {
+		return Promise.completed();
+	}
 }
\ No newline at end of file
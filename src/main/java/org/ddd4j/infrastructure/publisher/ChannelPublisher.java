@@ -27,15 +27,29 @@ public class ChannelPublisher<C> implements Closeable {
 
 	private final SubscribedChannels channels;
 	private final ListenerFactory<C> listenerFactory;
+	private final Closeable source;
 
 	public ChannelPublisher(SubscribedChannels channels, ListenerFactory<C> listenerFactory) {
+		this(channels, listenerFactory, () -> {
+		});
+	}
+
+	/**
+	 * Creates a publisher, which closes the given source of the channels' commits before the channels themselves.
+	 */
+	public ChannelPublisher(SubscribedChannels channels, ListenerFactory<C> listenerFactory, Closeable source) {
 		this.channels = Require.nonNull(channels);
 		this.listenerFactory = Require.nonNull(listenerFactory);
+		this.source = Require.nonNull(source);
 	}
 
 	@Override
 	public void closeChecked() throws Exception {
-		channels.closeChecked();
+		try {
+			source.closeChecked();
+		} finally {
+			channels.closeChecked();
+		}
 	}
 
 	public Set<ChannelName> getSubscribedChannels() {
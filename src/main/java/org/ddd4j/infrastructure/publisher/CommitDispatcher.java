@@ -0,0 +1,222 @@
+package org.ddd4j.infrastructure.publisher;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.ddd4j.infrastructure.Promise;
+import org.ddd4j.infrastructure.channel.api.CommitListener;
+import org.ddd4j.infrastructure.channel.api.ErrorListener;
+import org.ddd4j.infrastructure.domain.value.ChannelName;
+import org.ddd4j.io.ReadBuffer;
+import org.ddd4j.spi.Context;
+import org.ddd4j.util.Require;
+import org.ddd4j.util.Throwing.Closeable;
+import org.ddd4j.value.config.ConfKey;
+import org.ddd4j.value.versioned.Committed;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+
+/**
+ * Dispatch stage between a hot source and the {@link SubscribedChannels}. Commits are published into pre-allocated
+ * slots of a Disruptor ring and fanned out by handlers, each serving the channels hashed to it, so the commits of a
+ * channel keep their order. Listeners are notified at the end of every batch, so they can flush once per batch.
+ * <p>
+ * Backpressure is applied by the ring only: the hot source blocks while the ring is full, but does not wait for the
+ * listeners, whose promises are not combined. Listeners falling behind have to pause their channels by flow control.
+ * The dispatcher must be closed to stop its handler threads.
+ */
+public class CommitDispatcher implements CommitListener<ReadBuffer, ReadBuffer>, Closeable {
+
+	private class Handler implements EventHandler<Slot> {
+
+		private final int index;
+		private final Set<ChannelName> batch;
+
+		Handler(int index) {
+			this.index = index;
+			this.batch = new HashSet<>();
+		}
+
+		@Override
+		public void onEvent(Slot slot, long sequence, boolean endOfBatch) {
+			ChannelName name = slot.name;
+			if (name != null && handlerOf(name) == index) {
+				Committed<ReadBuffer, ReadBuffer> committed = slot.committed;
+				slot.clear();
+				channels.dispatch(name, committed);
+				batch.add(name);
+			}
+			if (endOfBatch && !batch.isEmpty()) {
+				batch.forEach(channels::onBatchEnd);
+				batch.clear();
+			}
+		}
+	}
+
+	private static class Slot {
+
+		private ChannelName name;
+		private Committed<ReadBuffer, ReadBuffer> committed;
+
+		static void translate(Slot slot, long sequence, ChannelName name, Committed<ReadBuffer, ReadBuffer> committed) {
+			slot.name = name;
+			slot.committed = committed;
+		}
+
+		void clear() {
+			name = null;
+			committed = null;
+		}
+	}
+
+	public enum WaitStrategyType {
+		/**
+		 * Parks handlers on a lock, which costs latency, but no CPU while idle.
+		 */
+		BLOCKING {
+
+			@Override
+			WaitStrategy create() {
+				return new BlockingWaitStrategy();
+			}
+		},
+		/**
+		 * Spins handlers for the lowest latency, but occupies a core per handler.
+		 */
+		BUSY_SPIN {
+
+			@Override
+			WaitStrategy create() {
+				return new BusySpinWaitStrategy();
+			}
+		},
+		/**
+		 * Spins handlers and yields their threads in between.
+		 */
+		YIELDING {
+
+			@Override
+			WaitStrategy create() {
+				return new YieldingWaitStrategy();
+			}
+		};
+
+		abstract WaitStrategy create();
+	}
+
+	public static final ConfKey<Boolean> ENABLED = ConfKey.ofBoolean("commitDispatcher.enabled", false);
+	public static final ConfKey<Integer> RING_SIZE = ConfKey.ofInteger("commitDispatcher.ringSize", 1024);
+	public static final ConfKey<Integer> HANDLERS = ConfKey.ofInteger("commitDispatcher.handlers", 1);
+	public static final ConfKey<WaitStrategyType> WAIT_STRATEGY = ConfKey.ofEnum(WaitStrategyType.class,
+			"commitDispatcher.waitStrategy", WaitStrategyType.BLOCKING);
+
+	private static final long SHUTDOWN_TIMEOUT_IN_MILLIS = 1000;
+
+	/**
+	 * Returns a dispatcher in front of the given channels, if enabled by configuration, or the channels themselves
+	 * otherwise.
+	 */
+	public static CommitListener<ReadBuffer, ReadBuffer> dispatching(Context context, SubscribedChannels channels) {
+		if (context.conf(ENABLED)) {
+			return new CommitDispatcher(channels, channels, context.conf(RING_SIZE), context.conf(HANDLERS),
+					context.conf(WAIT_STRATEGY));
+		} else {
+			return channels;
+		}
+	}
+
+	private static ThreadFactory threadFactory() {
+		AtomicInteger count = new AtomicInteger();
+		return r -> {
+			Thread thread = new Thread(r, "commit-dispatcher-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	private final SubscribedChannels channels;
+	private final int handlers;
+	private final Disruptor<Slot> disruptor;
+	private final RingBuffer<Slot> ring;
+	private volatile boolean closed;
+
+	/**
+	 * Creates and starts a dispatcher. The ring size must be a power of 2.
+	 */
+	public CommitDispatcher(SubscribedChannels channels, ErrorListener error, int ringSize, int handlers,
+			WaitStrategyType waitStrategy) {
+		Require.nonNulls(error, waitStrategy);
+		this.channels = Require.nonNull(channels);
+		this.handlers = Require.that(handlers, handlers > 0);
+		this.disruptor = new Disruptor<>(Slot::new, Require.that(ringSize, Integer.bitCount(ringSize) == 1), threadFactory(),
+				ProducerType.MULTI, waitStrategy.create());
+		disruptor.setDefaultExceptionHandler(new ExceptionHandler<Slot>() {
+
+			@Override
+			public void handleEventException(Throwable ex, long sequence, Slot slot) {
+				slot.clear();
+				error.onError(ex);
+			}
+
+			@Override
+			public void handleOnShutdownException(Throwable ex) {
+				error.onError(ex);
+			}
+
+			@Override
+			public void handleOnStartException(Throwable ex) {
+				error.onError(ex);
+			}
+		});
+		Handler[] fanOut = new Handler[handlers];
+		for (int i = 0; i < handlers; i++) {
+			fanOut[i] = new Handler(i);
+		}
+		disruptor.handleEventsWith(fanOut);
+		this.ring = disruptor.start();
+	}
+
+	/**
+	 * Dispatches the pending commits and stops the handlers, which are halted if they do not finish in time.
+	 */
+	@Override
+	public void closeChecked() throws Exception {
+		closed = true;
+		try {
+			disruptor.shutdown(SHUTDOWN_TIMEOUT_IN_MILLIS, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			disruptor.halt();
+		}
+	}
+
+	private int handlerOf(ChannelName name) {
+		return handlers == 1 ? 0 : Math.floorMod(name.hashCode(), handlers);
+	}
+
+	/**
+	 * Publishes the commit into the ring and waits for a free slot, if it is full. The returned promise is completed
+	 * once the commit has been published, not when it has been dispatched, as listeners are not awaited. It fails, if
+	 * the dispatcher has been closed, as there would be no handler to free a slot.
+	 */
+	@Override
+	public Promise<?> onNext(ChannelName name, Committed<ReadBuffer, ReadBuffer> committed) {
+		Require.nonNulls(name, committed);
+		if (closed) {
+			return Promise.failed(new IllegalStateException("Dispatcher is closed"));
+		}
+		ring.publishEvent(Slot::translate, name, committed);
+		return Promise.completed();
+	}
+}
@@ -1,5 +1,7 @@
 package org.ddd4j.infrastructure.publisher;
 
+import java.util.function.Function;
+
 import org.ddd4j.infrastructure.Promise;
 import org.ddd4j.infrastructure.channel.api.CommitListener;
 import org.ddd4j.infrastructure.channel.api.CompletionListener;
@@ -12,17 +14,19 @@ import org.ddd4j.infrastructure.domain.ChannelRevisions;
 import org.ddd4j.infrastructure.domain.value.ChannelName;
 import org.ddd4j.infrastructure.domain.value.ChannelPartition;
 import org.ddd4j.infrastructure.domain.value.ChannelRevision;
+import org.ddd4j.infrastructure.domain.value.CommittedRecords;
 import org.ddd4j.io.ReadBuffer;
 import org.ddd4j.spi.Ref;
 import org.ddd4j.util.Lazy;
 import org.ddd4j.util.Require;
+import org.ddd4j.util.Throwing.Closeable;
 import org.ddd4j.util.value.Sequence;
 import org.ddd4j.value.versioned.Committed;
 import org.ddd4j.value.versioned.Position;
 
 public interface RevisionCallback {
 
-	class SubscribedChannelsListener implements SubscribedChannels.Listener {
+	class SubscribedChannelsListener implements SubscribedChannels.Listener, Closeable {
 
 		private class RevisionAwareListener implements ChannelListener, CompletionListener {
 
@@ -73,6 +77,11 @@ public interface RevisionCallback {
 				return result;
 			}
 
+			@Override
+			public void prefetch(CommittedRecords records) {
+				commit.prefetch(records);
+			}
+
 			@Override
 			public Promise<?> onRebalance(RebalanceListener.Mode mode, Sequence<ChannelPartition> partitions) {
 				switch (mode) {
@@ -98,14 +107,40 @@ public interface RevisionCallback {
 		private final ColdSource.Factory coldFactory;
 		private final ChannelPublisher<RevisionCallback> publisher;
 		private final ChannelRevisions hotState;
+		private final CommitListener<ReadBuffer, ReadBuffer> dispatcher;
 		private final HotSource hotSource;
 
 		public SubscribedChannelsListener(ColdSource.Factory coldFactory, HotSource.Factory hotFactory) {
+			this(coldFactory, hotFactory, Function.identity());
+		}
+
+		/**
+		 * Creates a listener, where commits of the hot source are passed through the given dispatch stage. A closeable
+		 * dispatch stage is closed along with the hot source, when the publisher gets closed.
+		 */
+		public SubscribedChannelsListener(ColdSource.Factory coldFactory, HotSource.Factory hotFactory,
+				Function<SubscribedChannels, ? extends CommitListener<ReadBuffer, ReadBuffer>> dispatch) {
 			SubscribedChannels channels = new SubscribedChannels(this);
 			this.coldFactory = Require.nonNull(coldFactory);
-			this.publisher = new ChannelPublisher<>(channels, RevisionAwareListener::new);
+			this.publisher = new ChannelPublisher<>(channels, RevisionAwareListener::new, this);
 			this.hotState = new ChannelRevisions();
-			this.hotSource = hotFactory.createHotSource(channels, channels, channels);
+			this.dispatcher = Require.nonNull(dispatch.apply(channels));
+			this.hotSource = hotFactory.createHotSource(dispatcher, channels, channels);
+		}
+
+		/**
+		 * Closes the hot source first, so that the dispatch stage receives no more commits while dispatching the pending
+		 * ones.
+		 */
+		@Override
+		public void closeChecked() throws Exception {
+			try {
+				hotSource.closeChecked();
+			} finally {
+				if (dispatcher instanceof AutoCloseable) {
+					((AutoCloseable) dispatcher).close();
+				}
+			}
 		}
 
 		public ChannelPublisher<RevisionCallback> getPublisher() {
@@ -130,8 +165,9 @@ public interface RevisionCallback {
 		}
 	}
 
-	Ref<ChannelPublisher<RevisionCallback>> PUBLISHER = Ref.of("revisionCallbackChannelPublisher",
-			ctx -> new SubscribedChannelsListener(ctx.get(ColdSource.FACTORY), ctx.get(HotSource.FACTORY)).getPublisher());
+	Ref<ChannelPublisher<RevisionCallback>> PUBLISHER = Ref.<ChannelPublisher<RevisionCallback>>of("revisionCallbackChannelPublisher",
+			ctx -> new SubscribedChannelsListener(ctx.get(ColdSource.FACTORY), ctx.get(HotSource.FACTORY),
+					c -> CommitDispatcher.dispatching(ctx, c)).getPublisher()).withDestructor(ChannelPublisher::close);
 
 	RevisionCallback VOID = new RevisionCallback() {
 
@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.ddd4j.infrastructure.Promise;
+import org.ddd4j.infrastructure.channel.api.BatchListener;
 import org.ddd4j.infrastructure.channel.api.CommitListener;
 import org.ddd4j.infrastructure.channel.api.ErrorListener;
 import org.ddd4j.infrastructure.channel.api.RebalanceListener;
@@ -18,7 +19,8 @@ import org.ddd4j.util.Throwing.Closeable;
 import org.ddd4j.util.value.Sequence;
 import org.ddd4j.value.versioned.Committed;
 
-public class SubscribedChannels implements CommitListener<ReadBuffer, ReadBuffer>, ErrorListener, RebalanceListener, Closeable {
+public class SubscribedChannels
+		implements CommitListener<ReadBuffer, ReadBuffer>, BatchListener, ErrorListener, RebalanceListener, Closeable {
 
 	public interface Listener {
 
@@ -51,6 +53,20 @@ public class SubscribedChannels implements CommitListener<ReadBuffer, ReadBuffer
 			listeners.values().forEach(Closeable::close);
 		}
 
+		void dispatch(ChannelName name, Committed<ReadBuffer, ReadBuffer> committed) {
+			for (ChannelListener listener : listeners.values()) {
+				try {
+					listener.onNext(name, committed.map(ReadBuffer::duplicate, ReadBuffer::duplicate));
+				} catch (Throwable e) {
+					listener.onError(e);
+				}
+			}
+		}
+
+		void onBatchEnd(ChannelName name) {
+			listeners.values().forEach(l -> l.onBatchEnd(name));
+		}
+
 		Promise<?> onError(Throwable throwable) {
 			return Promise.completed().runAfterAll(listeners.values().stream().map(l -> l.onError(throwable))).whenComplete(
 					listeners::clear);
@@ -92,10 +108,23 @@ public class SubscribedChannels implements CommitListener<ReadBuffer, ReadBuffer
 		subscriptions.clear();
 	}
 
+	/**
+	 * Passes the commit on to all listeners of the channel without combining their promises.
+	 */
+	public void dispatch(ChannelName name, Committed<ReadBuffer, ReadBuffer> committed) {
+		subscriptions.getOrDefault(name, NONE).dispatch(name, committed);
+	}
+
 	public Set<ChannelName> getNames() {
 		return Collections.unmodifiableSet(subscriptions.keySet());
 	}
 
+	@Override
+	public Promise<?> onBatchEnd(ChannelName name) {
+		subscriptions.getOrDefault(name, NONE).onBatchEnd(name);
+		return Promise.completed();
+	}
+
 	@Override
 	public Promise<?> onError(Throwable throwable) {
 		return Promise.completed().runAfterAll(subscriptions.values().stream().map(s -> s.onError(throwable))).whenComplete(
@@ -1,11 +1,18 @@
 package org.ddd4j.infrastructure.scheduler;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
 
 import org.ddd4j.infrastructure.Promise;
+import org.ddd4j.infrastructure.channel.spi.FlowControlled;
 import org.ddd4j.util.Require;
-import org.ddd4j.util.collection.RingBuffer;
+import org.ddd4j.util.collection.MpscArrayQueue;
 import org.ddd4j.value.Nothing;
 
 public class Agent<T> {
@@ -27,7 +34,7 @@ public class Agent<T> {
 		private final Promise.Deferred<R> deferred;
 
 		Job(Blocked<? extends Task<? super T, Promise<R>>> task, boolean blocked) {
-			this.task = blocked ? task.managed(t -> t.perform(target), this::isDoneWithAll) : task.map(t -> t.perform(target));
+			this.task = blocked ? task.managed(t -> t.perform(target), () -> true) : task.map(t -> t.perform(target));
 			this.deferred = scheduler.createDeferredPromise();
 		}
 
@@ -46,11 +53,30 @@ public class Agent<T> {
 			return deferred;
 		}
 
-		boolean isDoneWithAll() {
-			return deferred.isDone() && jobs.isEmpty();
+		void reject() {
+			deferred.completeExceptionally(new RejectedExecutionException("Job queue of agent is full: " + target));
 		}
 	}
 
+	/**
+	 * Policy for jobs exceeding the capacity of the job queue.
+	 */
+	public enum Overflow {
+		/**
+		 * Pauses the flow, which has been given by {@link Agent#backpressureTo(FlowControlled)}, once the queue is filled
+		 * to three quarters and resumes it, once drained to a quarter. Jobs still exceeding the capacity are rejected.
+		 */
+		BACKPRESSURE,
+		/**
+		 * Blocks the caller until the job could be queued. Must not be used by jobs queuing to their own agent.
+		 */
+		BLOCK,
+		/**
+		 * Rejects the job by failing its promise.
+		 */
+		FAIL;
+	}
+
 	public interface Task<T, R> {
 
 		default Blocked<Task<T, R>> asBlocked() {
@@ -64,22 +90,102 @@ public class Agent<T> {
 		R perform(T target) throws Exception;
 	}
 
+	private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
 	public static <T> Agent<T> create(Scheduler scheduler, T target, int jobBufferSize) {
-		return new Agent<>(scheduler, target, jobBufferSize);
+		return new Agent<>(scheduler, target, jobBufferSize, 1, Overflow.FAIL);
+	}
+
+	public static <T> Agent<T> create(Scheduler scheduler, T target, int jobBufferSize, int concurrency, Overflow overflow) {
+		return new Agent<>(scheduler, target, jobBufferSize, concurrency, overflow);
 	}
 
 	private final Scheduler scheduler;
 	private final T target;
 	private ScheduledTask scheduledTask;
-	// TODO throw on overflow
-	private final RingBuffer<Job<?>> jobs;
-	private final AtomicBoolean scheduled;
+	private final MpscArrayQueue<Job<?>> jobs;
+	private final int concurrency;
+	private final AtomicInteger running;
+	private final AtomicBoolean paused;
+	private volatile Overflow overflow;
+	private volatile FlowControlled<?> flow;
 
 	public Agent(Scheduler scheduler, T target, int jobBufferSize) {
+		this(scheduler, target, jobBufferSize, 1, Overflow.FAIL);
+	}
+
+	/**
+	 * Creates an agent, which runs up to the given number of jobs concurrently. Only thread-safe targets may be run
+	 * with a concurrency above 1.
+	 */
+	public Agent(Scheduler scheduler, T target, int jobBufferSize, int concurrency, Overflow overflow) {
 		this.scheduler = Require.nonNull(scheduler);
 		this.target = Require.nonNull(target);
-		this.jobs = new RingBuffer<>(jobBufferSize);
-		this.scheduled = new AtomicBoolean(false);
+		this.jobs = new MpscArrayQueue<>(jobBufferSize);
+		this.concurrency = Require.that(concurrency, concurrency > 0);
+		this.running = new AtomicInteger(0);
+		this.paused = new AtomicBoolean(false);
+		this.overflow = Require.nonNull(overflow);
+	}
+
+	/**
+	 * Signals backpressure to the given flow, once the job queue fills up.
+	 */
+	public Agent<T> backpressureTo(FlowControlled<?> flow) {
+		this.flow = Require.nonNull(flow);
+		this.overflow = Overflow.BACKPRESSURE;
+		return this;
+	}
+
+	private <R> Job<R> enqueue(Job<R> job) {
+		switch (overflow) {
+		case BACKPRESSURE:
+			FlowControlled<?> flow = this.flow;
+			if (flow != null && jobs.size() >= jobs.capacity() * 3 / 4 && paused.compareAndSet(false, true)) {
+				flow.pause();
+			}
+			if (!jobs.offer(job)) {
+				job.reject();
+			}
+			break;
+
+		case BLOCK:
+			while (!jobs.offer(job)) {
+				LockSupport.parkNanos(BLOCK_PARK_NANOS);
+				if (Thread.currentThread().isInterrupted()) {
+					job.reject();
+					break;
+				}
+			}
+			break;
+
+		default:
+			if (!jobs.offer(job)) {
+				job.reject();
+			}
+		}
+		runIfNeeded();
+		return job;
+	}
+
+	/**
+	 * Drains up to the given number of jobs, while runs of concurrent agents take turns as single consumer of the
+	 * job queue.
+	 */
+	private List<Job<?>> drain(int max) {
+		List<Job<?>> batch = new ArrayList<>(max);
+		if (concurrency == 1) {
+			jobs.drainTo(batch::add, max);
+		} else {
+			synchronized (jobs) {
+				jobs.drainTo(batch::add, max);
+			}
+		}
+		FlowControlled<?> flow = this.flow;
+		if (flow != null && paused.get() && jobs.size() <= jobs.capacity() / 4 && paused.compareAndSet(true, false)) {
+			flow.resume();
+		}
+		return batch;
 	}
 
 	public Promise.Cancelable<Nothing> execute(Action<? super T> action) {
@@ -90,36 +196,59 @@ public class Agent<T> {
 		return performBlocked(action);
 	}
 
+	public Agent<T> onOverflow(Overflow overflow) {
+		this.overflow = Require.nonNull(overflow);
+		return this;
+	}
+
 	public <R> Promise.Cancelable<R> perform(Task<? super T, R> task) {
-		return scheduleIfNeeded(new Job<>(task.asPromised().asBlocked(), false)).getPromise();
+		return enqueue(new Job<>(task.asPromised().asBlocked(), false)).getPromise();
 	}
 
 	public <R> Promise.Cancelable<R> performBlocked(Blocked<? extends Task<? super T, R>> blocked) {
-		return scheduleIfNeeded(new Job<R>(blocked.map(Task::asPromised), true)).getPromise();
+		return enqueue(new Job<R>(blocked.map(Task::asPromised), true)).getPromise();
 	}
 
 	private boolean run(long duration, TimeUnit unit) {
 		try {
 			int remaining = scheduler.getBurstProcessing();
-			Job<?> job = null;
-			while (remaining-- > 0 && (job = jobs.getOrNull()) != null) {
-				job.executeWithTimeout(duration, unit);
+			// concurrent runs take one job at a time, so a single run does not hold back jobs from the others
+			int batchSize = concurrency == 1 ? remaining : 1;
+			List<Job<?>> batch;
+			while (remaining > 0 && !(batch = drain(Math.min(batchSize, remaining))).isEmpty()) {
+				remaining -= batch.size();
+				batch.forEach(job -> job.executeWithTimeout(duration, unit));
 			}
 		} finally {
-			if (jobs.isEmpty()) {
-				scheduled.set(false);
-			} else {
+			running.decrementAndGet();
+			runIfNeeded();
+		}
+		return jobs.isEmpty();
+	}
+
+	/**
+	 * Starts another run, if jobs are pending and fewer runs than the concurrency are in progress.
+	 */
+	private void runIfNeeded() {
+		int current;
+		while (!jobs.isEmpty() && (current = running.get()) < concurrency) {
+			if (running.compareAndSet(current, current + 1)) {
 				scheduler.execute(this::run);
+				return;
 			}
 		}
-		return jobs.isEmpty();
 	}
 
-	private <R> Job<R> scheduleIfNeeded(Job<R> job) {
-		jobs.put(job);
-		if (scheduled.compareAndSet(false, true)) {
-			scheduler.execute(this::run);
+	/**
+	 * Queues the task, unless the job queue is full, regardless of the overflow policy.
+	 */
+	public <R> Optional<Promise.Cancelable<R>> tryPerform(Task<? super T, R> task) {
+		Job<R> job = new Job<>(task.asPromised().asBlocked(), false);
+		if (jobs.offer(job)) {
+			runIfNeeded();
+			return Optional.of(job.getPromise());
+		} else {
+			return Optional.empty();
 		}
-		return job;
 	}
 }
@@ -18,6 +18,7 @@ public interface Blocked<T> {
 		private final BooleanSupplier isDone;
 		private I input;
 		private O output;
+		private boolean blocked;
 
 		public Managed(Blocked<I> delegate, TFunction<? super I, ? extends O> blocking, BooleanSupplier isDone) {
 			this.delegate = Require.nonNull(delegate);
@@ -28,6 +29,7 @@ public interface Blocked<T> {
 		@Override
 		public boolean block() throws InterruptedException {
 			output = blocking.apply(input);
+			blocked = true;
 			return isReleasable();
 		}
 
@@ -38,9 +40,12 @@ public interface Blocked<T> {
 			return output;
 		}
 
+		/**
+		 * Whether blocking is done, which requires to have blocked at least once.
+		 */
 		@Override
 		public boolean isReleasable() {
-			return isDone.getAsBoolean();
+			return blocked && isDone.getAsBoolean();
 		}
 	}
 
@@ -13,16 +13,21 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.RunnableScheduledFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.LongFunction;
 import java.util.function.ObjLongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.ddd4j.util.Require;
@@ -39,17 +44,21 @@ public interface BlockingExecutor extends Executor, AutoCloseable {
 		}
 
 		private final ObjLongConsumer<LongFunction<CallableBasedScheduledFuture<T>>> delayToNextRun;
-		private long nextRunInMillis;
+		private volatile long nextRunInMillis;
 
-		public CallableBasedScheduledFuture(Callable<T> callable, long timeInMillis) {
-			this(callable, timeInMillis, null);
+		public CallableBasedScheduledFuture(Callable<T> callable, long delayInMillis) {
+			this(callable, delayInMillis, null);
 		}
 
-		public CallableBasedScheduledFuture(Callable<T> callable, long timeInMillis,
+		/**
+		 * Creates a future to run after the given delay. Periodic futures pass their next delay, given the duration of
+		 * their last run, to the function they are provided with.
+		 */
+		public CallableBasedScheduledFuture(Callable<T> callable, long delayInMillis,
 				ObjLongConsumer<LongFunction<CallableBasedScheduledFuture<T>>> delayToNextRun) {
 			super(callable);
 			this.delayToNextRun = delayToNextRun;
-			this.nextRunInMillis = timeInMillis;
+			this.nextRunInMillis = now() + delayInMillis;
 		}
 
 		@Override
@@ -79,8 +88,8 @@ public interface BlockingExecutor extends Executor, AutoCloseable {
 			return delayToNextRun != null;
 		}
 
-		private CallableBasedScheduledFuture<T> nextRunAt(long timeInMillis) {
-			nextRunInMillis = timeInMillis;
+		private CallableBasedScheduledFuture<T> nextRunIn(long delayInMillis) {
+			nextRunInMillis = now() + delayInMillis;
 			return this;
 		}
 
@@ -91,7 +100,7 @@ public interface BlockingExecutor extends Executor, AutoCloseable {
 			} else if (isPeriodic()) {
 				long started = now();
 				super.runAndReset();
-				delayToNextRun.accept(this::nextRunAt, now() - started);
+				delayToNextRun.accept(this::nextRunIn, now() - started);
 			} else {
 				super.run();
 			}
@@ -117,6 +126,66 @@ public interface BlockingExecutor extends Executor, AutoCloseable {
 		}
 	}
 
+	/**
+	 * Runs blocked tasks on virtual threads, which park instead of occupying pool threads, so that blocking neither starves
+	 * the given executor nor makes it compensate with additional threads. Runtimes without virtual threads fall back to
+	 * a pool of at most the given number of platform threads, which queues blocked tasks beyond.
+	 */
+	class VirtualThreaded implements BlockingExecutor {
+
+		private static final long KEEP_ALIVE_IN_SECONDS = 60;
+
+		private static ExecutorService newVirtualThreadPerTaskExecutor(int maxPlatformThreads) {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException e) {
+				Logger.getLogger(VirtualThreaded.class.getName()).log(Level.WARNING,
+						"Virtual threads are not supported by this runtime, blocked tasks run on at most {0} platform threads",
+						maxPlatformThreads);
+				ThreadPoolExecutor platform = new ThreadPoolExecutor(maxPlatformThreads, maxPlatformThreads, KEEP_ALIVE_IN_SECONDS,
+						TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+				platform.allowCoreThreadTimeOut(true);
+				return platform;
+			}
+		}
+
+		private final BlockingExecutor delegate;
+		private final ExecutorService virtual;
+		private final long maxBlockingInMillis;
+
+		public VirtualThreaded(Executor executor, long maxBlockingInMillis, int maxPlatformThreads) {
+			Require.that(maxPlatformThreads > 0);
+			this.delegate = blockingExecutor(executor, maxBlockingInMillis);
+			this.virtual = newVirtualThreadPerTaskExecutor(maxPlatformThreads);
+			this.maxBlockingInMillis = Require.that(maxBlockingInMillis, t -> t > 0);
+		}
+
+		@Override
+		public void close() {
+			virtual.shutdown();
+			delegate.close();
+		}
+
+		@Override
+		public <T> CompletionStage<T> execute(Blocked<T> blocked) {
+			CompletableFuture<T> stage = new CompletableFuture<>();
+			Blocked<T> listening = blocked.withListener(stage::complete, stage::completeExceptionally);
+			Task blocking = () -> listening.execute(maxBlockingInMillis, TimeUnit.MILLISECONDS);
+			virtual.execute(blocking);
+			return stage;
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			delegate.execute(command);
+		}
+
+		@Override
+		public <T> DelayedStage<T> schedule(Producer<T> producer, long delay, TimeUnit unit) {
+			return delegate.schedule(producer, delay, unit);
+		}
+	}
+
 	class WrappedExecutor extends AbstractExecutorService implements ExecutorService {
 
 		private class WrappedRunnable implements Runnable {
@@ -305,20 +374,19 @@ public interface BlockingExecutor extends Executor, AutoCloseable {
 			return delegate.shutdownNow();
 		}
 
+		/**
+		 * Parks until the next delayed task is due and passes it to the delegate. A previous sleeper is unparked and
+		 * leaves, instead of being interrupted, as its thread might already run another task.
+		 */
 		private void sleepLoop() {
-			Thread previous = sleeper.get();
+			Thread previous = sleeper.getAndSet(Thread.currentThread());
 			if (previous != null) {
-				previous.interrupt();
+				LockSupport.unpark(previous);
 			}
 
-			sleeper.set(Thread.currentThread());
 			long delay = -1;
 			while (Thread.currentThread() == sleeper.get() && (delay = nextDelay()) > 0) {
-				try {
-					Thread.sleep(maxBlock(delay));
-				} catch (InterruptedException e) {
-					// ignore
-				}
+				LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(maxBlock(delay)));
 			}
 			sleeper.compareAndSet(Thread.currentThread(), null);
 		}
@@ -8,7 +8,6 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import org.ddd4j.infrastructure.Promise;
-import org.ddd4j.infrastructure.scheduler.BlockingExecutor.DelayedStage;
 import org.ddd4j.infrastructure.scheduler.ScheduledTask.Rescheduler;
 import org.ddd4j.spi.Context;
 import org.ddd4j.spi.Ref;
@@ -48,41 +47,87 @@ public class Scheduler implements AutoCloseable {
 			public Executor create(int size) {
 				return Executors.newFixedThreadPool(size);
 			}
+		},
+		VIRTUAL_THREADS {
+
+			@Override
+			public Executor create(int size) {
+				return Executors.newWorkStealingPool(size);
+			}
+
+			/**
+			 * Runs blocked tasks on virtual threads and everything else on a work stealing pool. Without virtual threads,
+			 * blocked tasks run on at most as many platform threads as the pool size.
+			 */
+			@Override
+			public BlockingExecutor createBlocking(int size, long maxBlockingInMillis) {
+				return new BlockingExecutor.VirtualThreaded(create(size), maxBlockingInMillis, size);
+			}
 		};
 
 		public abstract Executor create(int size);
+
+		public BlockingExecutor createBlocking(int size, long maxBlockingInMillis) {
+			return BlockingExecutor.blockingExecutor(create(size), maxBlockingInMillis);
+		}
 	}
 
+	private static final long DEFAULT_TICK_IN_MILLIS = 10;
+
 	public static final ConfKey<PoolType> POOL_TYPE = ConfKey.ofEnum(PoolType.class, "pool.type", PoolType.FORK_JOIN_POOL);
 	public static final ConfKey<Integer> POOL_SIZE = ConfKey.ofInteger("pool.size", Runtime.getRuntime().availableProcessors());
 	public static final ConfKey<Integer> BURST_PROCESSING = ConfKey.ofInteger("burst", Integer.MAX_VALUE);
 	public static final ConfKey<Integer> JOB_BUFFER_SIZE = ConfKey.ofInteger("jobBufferSize", 100);
 	public static final ConfKey<Long> MAX_BLOCKING_IN_MILLIS = ConfKey.ofLong("maxBlockingInMillis", 2000L);
+	public static final ConfKey<Integer> AGENT_CONCURRENCY = ConfKey.ofInteger("agent.concurrency", 1);
+	public static final ConfKey<Agent.Overflow> AGENT_OVERFLOW = ConfKey.ofEnum(Agent.Overflow.class, "agent.overflow",
+			Agent.Overflow.FAIL);
+	public static final ConfKey<Long> TIMER_TICK_IN_MILLIS = ConfKey.ofLong("timer.tickInMillis", DEFAULT_TICK_IN_MILLIS);
 	public static final Ref<Scheduler> REF = Ref.of(Scheduler.class, Scheduler::create);
 
 	public static Scheduler create(Context context) {
-		Executor executor = context.conf(POOL_TYPE).create(context.conf(POOL_SIZE));
-		BlockingExecutor blockingExecutor = BlockingExecutor.blockingExecutor(executor, context.conf(MAX_BLOCKING_IN_MILLIS));
-		return new Scheduler(blockingExecutor, context.confProvider(JOB_BUFFER_SIZE), context.conf(BURST_PROCESSING));
+		BlockingExecutor blockingExecutor = context.conf(POOL_TYPE).createBlocking(context.conf(POOL_SIZE),
+				context.conf(MAX_BLOCKING_IN_MILLIS));
+		return new Scheduler(blockingExecutor, context.confProvider(JOB_BUFFER_SIZE), context.conf(BURST_PROCESSING),
+				context.confProvider(AGENT_CONCURRENCY), context.confProvider(AGENT_OVERFLOW), context.conf(TIMER_TICK_IN_MILLIS));
 	}
 
 	private final BlockingExecutor executor;
 	private final int burstProcessing;
 	private final Supplier<Integer> jobBufferSize;
+	private final Supplier<Integer> agentConcurrency;
+	private final Supplier<Agent.Overflow> agentOverflow;
+	private final WheelTimer timer;
 
 	public Scheduler(BlockingExecutor executor, Supplier<Integer> jobBufferSize, int burstProcessing) {
+		this(executor, jobBufferSize, burstProcessing, () -> 1, () -> Agent.Overflow.FAIL, DEFAULT_TICK_IN_MILLIS);
+	}
+
+	public Scheduler(BlockingExecutor executor, Supplier<Integer> jobBufferSize, int burstProcessing, Supplier<Integer> agentConcurrency,
+			Supplier<Agent.Overflow> agentOverflow, long timerTickInMillis) {
 		this.executor = Require.nonNull(executor);
 		this.jobBufferSize = Require.nonNull(jobBufferSize);
 		this.burstProcessing = Require.that(burstProcessing, burstProcessing > 0);
+		this.agentConcurrency = Require.nonNull(agentConcurrency);
+		this.agentOverflow = Require.nonNull(agentOverflow);
+		this.timer = new WheelTimer(executor, timerTickInMillis, TimeUnit.MILLISECONDS);
 	}
 
 	@Override
 	public void close() {
+		timer.close();
 		executor.close();
 	}
 
 	public <T> Agent<T> createAgent(T target) {
-		return Agent.create(this, target, jobBufferSize.get());
+		return createAgent(target, agentConcurrency.get());
+	}
+
+	/**
+	 * Creates an agent, which runs up to the given number of jobs on its target concurrently.
+	 */
+	public <T> Agent<T> createAgent(T target, int concurrency) {
+		return Agent.create(this, target, jobBufferSize.get(), concurrency, agentOverflow.get());
 	}
 
 	public <T> Promise.Deferred<T> createDeferredPromise() {
@@ -117,9 +162,12 @@ public class Scheduler implements AutoCloseable {
 		return new Rescheduler(this, task);
 	}
 
+	/**
+	 * Schedules the producer on a timing wheel, where the delay is rounded up to the next tick.
+	 */
 	public <T> Promise.Cancelable<T> schedule(Producer<T> producer, long delay, TimeUnit unit) {
-		DelayedStage<T> stage = executor.schedule(producer, delay, unit);
-		return new Promise.Delayed<>(executor, stage.getStage().toCompletableFuture(), stage.getDelayed());
+		WheelTimer.Timer<T> timer = this.timer.schedule(producer, delay, unit);
+		return new Promise.Delayed<>(executor, timer, timer, timer);
 	}
 
 	public <T> Promise.Cancelable<Nothing> schedule(Task task, long delay, TimeUnit unit) {
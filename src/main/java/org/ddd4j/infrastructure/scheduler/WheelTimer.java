@@ -0,0 +1,143 @@
+package org.ddd4j.infrastructure.scheduler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.ddd4j.util.Require;
+import org.ddd4j.util.Throwing.Producer;
+import org.ddd4j.util.collection.TimingWheel;
+
+/**
+ * Timer based on a hierarchical hashed {@link TimingWheel}, so scheduling and canceling take constant time. A single
+ * daemon thread advances the wheel once per tick and passes all timers due at that tick as one batch to the executor.
+ * The thread parks while no timers are pending.
+ */
+public class WheelTimer implements AutoCloseable {
+
+	public class Timer<T> extends CompletableFuture<T> implements ScheduledFuture<T>, Runnable {
+
+		private final Producer<T> producer;
+		private volatile TimingWheel<Timer<?>>.Timeout timeout;
+
+		Timer(Producer<T> producer) {
+			this.producer = Require.nonNull(producer);
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			TimingWheel<Timer<?>>.Timeout timeout = this.timeout;
+			if (timeout != null) {
+				timeout.cancel();
+			}
+			return super.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			TimingWheel<Timer<?>>.Timeout timeout = this.timeout;
+			long delay = timeout != null && !isDone() ? timeout.getDeadline() - System.currentTimeMillis() : 0;
+			return unit.convert(delay, TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public void run() {
+			if (isDone()) {
+				return;
+			}
+			try {
+				complete(producer.produce());
+			} catch (Throwable e) {
+				completeExceptionally(e);
+			}
+		}
+	}
+
+	private final Executor executor;
+	private final TimingWheel<Timer<?>> wheel;
+	private final Thread ticker;
+	private volatile boolean idle;
+	private volatile boolean closed;
+
+	public WheelTimer(Executor executor, long tick, TimeUnit unit) {
+		this.executor = Require.nonNull(executor);
+		this.wheel = new TimingWheel<>(tick, unit);
+		this.ticker = new Thread(this::tick, "wheel-timer");
+		this.idle = true;
+		this.closed = false;
+		ticker.setDaemon(true);
+		ticker.start();
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(ticker);
+	}
+
+	/**
+	 * Advances the wheel and passes the timers due as one task to the executor, or a single timer as it is.
+	 */
+	private void advance() {
+		List<Timer<?>> due = new ArrayList<>();
+		wheel.advance(t -> {
+			if (!t.isDone()) {
+				due.add(t);
+			}
+		});
+		if (due.size() == 1) {
+			executor.execute(due.get(0));
+		} else if (!due.isEmpty()) {
+			executor.execute(() -> due.forEach(Timer::run));
+		}
+	}
+
+	/**
+	 * Schedules the producer to run on the executor after the given delay, which is rounded up to the next tick.
+	 * Producers without delay are passed to the executor right away.
+	 */
+	public <T> Timer<T> schedule(Producer<T> producer, long delay, TimeUnit unit) {
+		Timer<T> timer = new Timer<>(producer);
+		if (delay <= 0) {
+			executor.execute(timer);
+		} else {
+			Require.that(!closed);
+			if (idle) {
+				// the clock of the wheel stood still while idle
+				advance();
+			}
+			// measured from now, as the clock of the wheel lags up to a tick behind
+			timer.timeout = wheel.schedule(timer, delay, unit, System.currentTimeMillis());
+			if (idle) {
+				LockSupport.unpark(ticker);
+			}
+		}
+		return timer;
+	}
+
+	private void tick() {
+		long tickInNanos = TimeUnit.MILLISECONDS.toNanos(wheel.tickInMillis());
+		while (!closed) {
+			if (wheel.size() == 0) {
+				idle = true;
+				if (wheel.size() == 0) {
+					LockSupport.park(this);
+				}
+				idle = false;
+			} else {
+				LockSupport.parkNanos(this, tickInNanos);
+				advance();
+			}
+		}
+	}
+}
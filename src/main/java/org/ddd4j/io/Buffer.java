@@ -100,15 +100,8 @@ public class Buffer implements ReadBuffer, WriteBuffer {
 			return true;
 		} else if (o instanceof Buffer) {
 			Buffer that = (Buffer) o;
-			if (this.remaining() != that.remaining()) {
-				return false;
-			}
-			for (int i = 0; i < remaining(); i++) {
-				if (this.backing().get(this.position() + i) != that.backing().get(that.position() + i)) {
-					return false;
-				}
-			}
-			return true;
+			return this.remaining() == that.remaining()
+					&& this.backing().mismatch(this.position(), that.backing(), that.position(), remaining()) < 0;
 		} else {
 			return false;
 		}
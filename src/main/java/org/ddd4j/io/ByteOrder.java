@@ -1,5 +1,9 @@
 package org.ddd4j.io;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+
 public interface ByteOrder {
 
 	public interface IndexedBytes {
@@ -9,11 +13,209 @@ public interface ByteOrder {
 		IndexedBytes put(int index, byte b);
 	}
 
-	ByteOrder BIG_ENDIAN = new ByteOrder() {
+	/**
+	 * Assembles primitives byte by byte. Works for any {@link IndexedBytes}, but is only used as fallback for those, which are
+	 * neither array nor buffer based.
+	 */
+	enum PerByte implements ByteOrder {
+		BIG_ENDIAN {
+
+			@Override
+			public char getChar(IndexedBytes bytes, int index) {
+				return (char) ((bytes.get(index + 1) & 0xFF) + (bytes.get(index) << 8));
+			}
+
+			@Override
+			public double getDouble(IndexedBytes bytes, int index) {
+				return Double.longBitsToDouble(getLong(bytes, index));
+			}
+
+			@Override
+			public float getFloat(IndexedBytes bytes, int index) {
+				return Float.intBitsToFloat(getInt(bytes, index));
+			}
+
+			@Override
+			public int getInt(IndexedBytes bytes, int index) {
+				return ((bytes.get(index + 3) & 0xFF)) //
+						+ ((bytes.get(index + 2) & 0xFF) << 8) //
+						+ ((bytes.get(index + 1) & 0xFF) << 16) //
+						+ ((bytes.get(index)) << 24);
+			}
+
+			@Override
+			public long getLong(IndexedBytes bytes, int index) {
+				return ((bytes.get(index + 7) & 0xFFL)) //
+						+ ((bytes.get(index + 6) & 0xFFL) << 8) //
+						+ ((bytes.get(index + 5) & 0xFFL) << 16) //
+						+ ((bytes.get(index + 4) & 0xFFL) << 24) //
+						+ ((bytes.get(index + 3) & 0xFFL) << 32) //
+						+ ((bytes.get(index + 2) & 0xFFL) << 40) //
+						+ ((bytes.get(index + 1) & 0xFFL) << 48) //
+						+ (((long) bytes.get(index + 0)) << 56);
+			}
+
+			@Override
+			public short getShort(IndexedBytes bytes, int index) {
+				return (short) ((bytes.get(index + 1) & 0xFF) + (bytes.get(index) << 8));
+			}
+
+			@Override
+			public void putChar(IndexedBytes bytes, int index, char value) {
+				bytes.put(index + 1, (byte) value);
+				bytes.put(index + 0, (byte) (value >>> 8));
+			}
+
+			@Override
+			public void putDouble(IndexedBytes bytes, int index, double value) {
+				putLong(bytes, index, Double.doubleToLongBits(value));
+			}
+
+			@Override
+			public void putFloat(IndexedBytes bytes, int index, float value) {
+				putInt(bytes, index, Float.floatToIntBits(value));
+			}
+
+			@Override
+			public void putInt(IndexedBytes bytes, int index, int value) {
+				bytes.put(index + 3, (byte) value);
+				bytes.put(index + 2, (byte) (value >>> 8));
+				bytes.put(index + 1, (byte) (value >>> 16));
+				bytes.put(index + 0, (byte) (value >>> 24));
+			}
+
+			@Override
+			public void putLong(IndexedBytes bytes, int index, long value) {
+				bytes.put(index + 7, (byte) value);
+				bytes.put(index + 6, (byte) (value >>> 8));
+				bytes.put(index + 5, (byte) (value >>> 16));
+				bytes.put(index + 4, (byte) (value >>> 24));
+				bytes.put(index + 3, (byte) (value >>> 32));
+				bytes.put(index + 2, (byte) (value >>> 40));
+				bytes.put(index + 1, (byte) (value >>> 48));
+				bytes.put(index + 0, (byte) (value >>> 56));
+			}
+
+			@Override
+			public void putShort(IndexedBytes bytes, int index, short value) {
+				bytes.put(index + 1, (byte) value);
+				bytes.put(index + 0, (byte) (value >>> 8));
+			}
+		},
+		LITTLE_ENDIAN {
+
+			@Override
+			public char getChar(IndexedBytes bytes, int index) {
+				return (char) ((bytes.get(index) & 0xFF) + (bytes.get(index + 1) << 8));
+			}
+
+			@Override
+			public double getDouble(IndexedBytes bytes, int index) {
+				return Double.longBitsToDouble(getLong(bytes, index));
+			}
+
+			@Override
+			public float getFloat(IndexedBytes bytes, int index) {
+				return Float.intBitsToFloat(getInt(bytes, index));
+			}
+
+			@Override
+			public int getInt(IndexedBytes bytes, int index) {
+				return ((bytes.get(index) & 0xFF)) //
+						+ ((bytes.get(index + 1) & 0xFF) << 8) //
+						+ ((bytes.get(index + 2) & 0xFF) << 16) //
+						+ ((bytes.get(index + 3)) << 24);
+			}
+
+			@Override
+			public long getLong(IndexedBytes bytes, int index) {
+				return ((bytes.get(index) & 0xFFL)) //
+						+ ((bytes.get(index + 1) & 0xFFL) << 8) //
+						+ ((bytes.get(index + 2) & 0xFFL) << 16) //
+						+ ((bytes.get(index + 3) & 0xFFL) << 24) //
+						+ ((bytes.get(index + 4) & 0xFFL) << 32) //
+						+ ((bytes.get(index + 5) & 0xFFL) << 40) //
+						+ ((bytes.get(index + 6) & 0xFFL) << 48) //
+						+ (((long) bytes.get(index + 7)) << 56);
+			}
+
+			@Override
+			public short getShort(IndexedBytes bytes, int index) {
+				return (short) ((bytes.get(index) & 0xFF) + (bytes.get(index + 1) << 8));
+			}
+
+			@Override
+			public void putChar(IndexedBytes bytes, int index, char value) {
+				bytes.put(index, (byte) value);
+				bytes.put(index + 1, (byte) (value >>> 8));
+			}
+
+			@Override
+			public void putDouble(IndexedBytes bytes, int index, double value) {
+				putLong(bytes, index, Double.doubleToLongBits(value));
+			}
+
+			@Override
+			public void putFloat(IndexedBytes bytes, int index, float value) {
+				putInt(bytes, index, Float.floatToIntBits(value));
+			}
+
+			@Override
+			public void putInt(IndexedBytes bytes, int index, int value) {
+				bytes.put(index, (byte) value);
+				bytes.put(index + 1, (byte) (value >>> 8));
+				bytes.put(index + 2, (byte) (value >>> 16));
+				bytes.put(index + 3, (byte) (value >>> 24));
+			}
+
+			@Override
+			public void putLong(IndexedBytes bytes, int index, long value) {
+				bytes.put(index, (byte) value);
+				bytes.put(index + 1, (byte) (value >>> 8));
+				bytes.put(index + 2, (byte) (value >>> 16));
+				bytes.put(index + 3, (byte) (value >>> 24));
+				bytes.put(index + 4, (byte) (value >>> 32));
+				bytes.put(index + 5, (byte) (value >>> 40));
+				bytes.put(index + 6, (byte) (value >>> 48));
+				bytes.put(index + 7, (byte) (value >>> 56));
+			}
+
+			@Override
+			public void putShort(IndexedBytes bytes, int index, short value) {
+				bytes.put(index, (byte) value);
+				bytes.put(index + 1, (byte) (value >>> 8));
+			}
+		};
+	}
+
+	/**
+	 * Reads and writes whole words with a single access, if the given bytes are backed by an array or a {@link ByteBuffer}.
+	 * The view handles are held in static final fields in native order, so that the JIT can constant-fold them, while the
+	 * other order reverses the bytes of the values.
+	 */
+	enum Viewed implements ByteOrder {
+		BIG_ENDIAN(java.nio.ByteOrder.BIG_ENDIAN, PerByte.BIG_ENDIAN), //
+		LITTLE_ENDIAN(java.nio.ByteOrder.LITTLE_ENDIAN, PerByte.LITTLE_ENDIAN);
+
+		private static final java.nio.ByteOrder NATIVE = java.nio.ByteOrder.nativeOrder();
+		private static final VarHandle SHORT_ARRAY = MethodHandles.byteArrayViewVarHandle(short[].class, NATIVE);
+		private static final VarHandle INT_ARRAY = MethodHandles.byteArrayViewVarHandle(int[].class, NATIVE);
+		private static final VarHandle LONG_ARRAY = MethodHandles.byteArrayViewVarHandle(long[].class, NATIVE);
+		private static final VarHandle SHORT_BUFFER = MethodHandles.byteBufferViewVarHandle(short[].class, NATIVE);
+		private static final VarHandle INT_BUFFER = MethodHandles.byteBufferViewVarHandle(int[].class, NATIVE);
+		private static final VarHandle LONG_BUFFER = MethodHandles.byteBufferViewVarHandle(long[].class, NATIVE);
+
+		private final boolean reversed;
+		private final PerByte fallback;
+
+		Viewed(java.nio.ByteOrder order, PerByte fallback) {
+			this.reversed = order != java.nio.ByteOrder.nativeOrder();
+			this.fallback = fallback;
+		}
 
 		@Override
 		public char getChar(IndexedBytes bytes, int index) {
-			return (char) ((bytes.get(index + 1) & 0xFF) + (bytes.get(index) << 8));
+			return (char) getShort(bytes, index);
 		}
 
 		@Override
@@ -28,33 +230,52 @@ public interface ByteOrder {
 
 		@Override
 		public int getInt(IndexedBytes bytes, int index) {
-			return ((bytes.get(index + 3) & 0xFF)) //
-					+ ((bytes.get(index + 2) & 0xFF) << 8) //
-					+ ((bytes.get(index + 1) & 0xFF) << 16) //
-					+ ((bytes.get(index)) << 24);
+			int value;
+			if (bytes instanceof Bytes.Arrayed) {
+				Bytes.Arrayed arrayed = (Bytes.Arrayed) bytes;
+				value = (int) INT_ARRAY.get(arrayed.backing(), arrayed.offset() + index);
+			} else if (bytes instanceof Bytes.Buffered) {
+				Bytes.Buffered buffered = (Bytes.Buffered) bytes;
+				value = (int) INT_BUFFER.get(buffered.backing(), buffered.offset() + index);
+			} else {
+				return fallback.getInt(bytes, index);
+			}
+			return reversed ? Integer.reverseBytes(value) : value;
 		}
 
 		@Override
 		public long getLong(IndexedBytes bytes, int index) {
-			return ((bytes.get(index + 7) & 0xFFL)) //
-					+ ((bytes.get(index + 6) & 0xFFL) << 8) //
-					+ ((bytes.get(index + 5) & 0xFFL) << 16) //
-					+ ((bytes.get(index + 4) & 0xFFL) << 24) //
-					+ ((bytes.get(index + 3) & 0xFFL) << 32) //
-					+ ((bytes.get(index + 2) & 0xFFL) << 40) //
-					+ ((bytes.get(index + 1) & 0xFFL) << 48) //
-					+ (((long) bytes.get(index + 0)) << 56);
+			long value;
+			if (bytes instanceof Bytes.Arrayed) {
+				Bytes.Arrayed arrayed = (Bytes.Arrayed) bytes;
+				value = (long) LONG_ARRAY.get(arrayed.backing(), arrayed.offset() + index);
+			} else if (bytes instanceof Bytes.Buffered) {
+				Bytes.Buffered buffered = (Bytes.Buffered) bytes;
+				value = (long) LONG_BUFFER.get(buffered.backing(), buffered.offset() + index);
+			} else {
+				return fallback.getLong(bytes, index);
+			}
+			return reversed ? Long.reverseBytes(value) : value;
 		}
 
 		@Override
 		public short getShort(IndexedBytes bytes, int index) {
-			return (short) ((bytes.get(index + 1) & 0xFF) + (bytes.get(index) << 8));
+			short value;
+			if (bytes instanceof Bytes.Arrayed) {
+				Bytes.Arrayed arrayed = (Bytes.Arrayed) bytes;
+				value = (short) SHORT_ARRAY.get(arrayed.backing(), arrayed.offset() + index);
+			} else if (bytes instanceof Bytes.Buffered) {
+				Bytes.Buffered buffered = (Bytes.Buffered) bytes;
+				value = (short) SHORT_BUFFER.get(buffered.backing(), buffered.offset() + index);
+			} else {
+				return fallback.getShort(bytes, index);
+			}
+			return reversed ? Short.reverseBytes(value) : value;
 		}
 
 		@Override
 		public void putChar(IndexedBytes bytes, int index, char value) {
-			bytes.put(index + 1, (byte) value);
-			bytes.put(index + 0, (byte) (value >>> 8));
+			putShort(bytes, index, (short) value);
 		}
 
 		@Override
@@ -69,30 +290,46 @@ public interface ByteOrder {
 
 		@Override
 		public void putInt(IndexedBytes bytes, int index, int value) {
-			bytes.put(index + 3, (byte) value);
-			bytes.put(index + 2, (byte) (value >>> 8));
-			bytes.put(index + 1, (byte) (value >>> 16));
-			bytes.put(index + 0, (byte) (value >>> 24));
+			if (bytes instanceof Bytes.Arrayed) {
+				Bytes.Arrayed arrayed = (Bytes.Arrayed) bytes;
+				INT_ARRAY.set(arrayed.backing(), arrayed.offset() + index, reversed ? Integer.reverseBytes(value) : value);
+			} else if (bytes instanceof Bytes.Buffered) {
+				Bytes.Buffered buffered = (Bytes.Buffered) bytes;
+				INT_BUFFER.set(buffered.backing(), buffered.offset() + index, reversed ? Integer.reverseBytes(value) : value);
+			} else {
+				fallback.putInt(bytes, index, value);
+			}
 		}
 
 		@Override
 		public void putLong(IndexedBytes bytes, int index, long value) {
-			bytes.put(index + 7, (byte) value);
-			bytes.put(index + 6, (byte) (value >>> 8));
-			bytes.put(index + 5, (byte) (value >>> 16));
-			bytes.put(index + 4, (byte) (value >>> 24));
-			bytes.put(index + 3, (byte) (value >>> 32));
-			bytes.put(index + 2, (byte) (value >>> 40));
-			bytes.put(index + 1, (byte) (value >>> 48));
-			bytes.put(index + 0, (byte) (value >>> 56));
+			if (bytes instanceof Bytes.Arrayed) {
+				Bytes.Arrayed arrayed = (Bytes.Arrayed) bytes;
+				LONG_ARRAY.set(arrayed.backing(), arrayed.offset() + index, reversed ? Long.reverseBytes(value) : value);
+			} else if (bytes instanceof Bytes.Buffered) {
+				Bytes.Buffered buffered = (Bytes.Buffered) bytes;
+				LONG_BUFFER.set(buffered.backing(), buffered.offset() + index, reversed ? Long.reverseBytes(value) : value);
+			} else {
+				fallback.putLong(bytes, index, value);
+			}
 		}
 
 		@Override
 		public void putShort(IndexedBytes bytes, int index, short value) {
-			bytes.put(index + 1, (byte) value);
-			bytes.put(index + 0, (byte) (value >>> 8));
+			if (bytes instanceof Bytes.Arrayed) {
+				Bytes.Arrayed arrayed = (Bytes.Arrayed) bytes;
+				SHORT_ARRAY.set(arrayed.backing(), arrayed.offset() + index, reversed ? Short.reverseBytes(value) : value);
+			} else if (bytes instanceof Bytes.Buffered) {
+				Bytes.Buffered buffered = (Bytes.Buffered) bytes;
+				SHORT_BUFFER.set(buffered.backing(), buffered.offset() + index, reversed ? Short.reverseBytes(value) : value);
+			} else {
+				fallback.putShort(bytes, index, value);
+			}
 		}
-	};
+	}
+
+	ByteOrder BIG_ENDIAN = Viewed.BIG_ENDIAN;
+	ByteOrder LITTLE_ENDIAN = Viewed.LITTLE_ENDIAN;
 
 	byte BOOLEAN_FALSE_ENCODING = 0;
 
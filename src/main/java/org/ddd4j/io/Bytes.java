@@ -2,15 +2,22 @@ package org.ddd4j.io;
 
 import java.io.IOException;
 import java.io.UTFDataFormatException;
+import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.ddd4j.io.ByteOrder.IndexedBytes;
 import org.ddd4j.util.Require;
 import org.ddd4j.util.Throwing;
 
-public abstract class Bytes implements IndexedBytes, AutoCloseable {
+public abstract class Bytes implements IndexedBytes, AutoCloseable, Comparable<Bytes> {
 
 	public static class Arrayed extends Bytes {
 
@@ -24,29 +31,108 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 
 		public Arrayed(byte[] bytes, int offset, int length) {
 			this.bytes = Require.nonNull(bytes);
-			this.offset = Require.that(offset, offset >= 0 && offset < bytes.length);
+			this.offset = Require.that(offset, offset >= 0 && offset <= bytes.length);
 			this.length = Require.that(length, length <= bytes.length - offset);
 		}
 
+		private int absolute(int index, int amount) {
+			checkRange(index, amount);
+			return offset + index;
+		}
+
+		@Override
+		byte[] array() {
+			return bytes;
+		}
+
+		@Override
+		int arrayIndex(int index, int amount) {
+			return absolute(index, amount);
+		}
+
+		@Override
+		public byte[] asByteArray(int index, int length) {
+			return absolute(index, length) == 0 && length == bytes.length ? bytes : super.asByteArray(index, length);
+		}
+
+		@Override
+		public ByteBuffer asByteBuffer(int index, int length) {
+			return ByteBuffer.wrap(bytes, absolute(index, length), length);
+		}
+
 		public byte[] backing() {
 			return bytes;
 		}
 
+		@Override
+		public <E extends Throwable> void forEach(ByteConsumer<E> consumer, int start, int length) throws E {
+			int from = absolute(start, length);
+			for (int i = from; i < from + length; i++) {
+				consumer.accept(bytes[i]);
+			}
+		}
+
 		@Override
 		public byte get(int index) {
 			return bytes[offset + index];
 		}
 
+		@Override
+		public Bytes get(int index, byte[] dst, int offset, int length) {
+			System.arraycopy(bytes, absolute(index, length), dst, offset, length);
+			return this;
+		}
+
+		@Override
+		public Bytes get(int index, Bytes dst, int dstIndex, int length) {
+			dst.put(dstIndex, bytes, absolute(index, length), length);
+			return this;
+		}
+
+		@Override
+		public int get(int index, int amount, ByteBuffer dst) {
+			amount = Math.min(Math.min(amount, remaining(index)), dst.remaining());
+			dst.put(bytes, absolute(index, amount), amount);
+			return amount;
+		}
+
+		@Override
+		String latin1(int index, int length) {
+			return new String(bytes, absolute(index, length), length, StandardCharsets.ISO_8859_1);
+		}
+
 		@Override
 		public int length() {
 			return length;
 		}
 
+		int offset() {
+			return offset;
+		}
+
 		@Override
 		public Bytes put(int index, byte b) {
 			bytes[offset + index] = b;
 			return this;
 		}
+
+		@Override
+		public Bytes put(int index, byte[] src, int offset, int length) {
+			System.arraycopy(src, offset, bytes, absolute(index, length), length);
+			return this;
+		}
+
+		@Override
+		public int put(int index, int amount, ByteBuffer src) {
+			amount = Math.min(Math.min(amount, remaining(index)), src.remaining());
+			src.get(bytes, absolute(index, amount), amount);
+			return amount;
+		}
+
+		@Override
+		public Bytes sliceBy(int offset, int length) {
+			return new Arrayed(bytes, absolute(offset, length), length);
+		}
 	}
 
 	public static class Buffered extends Bytes {
@@ -61,21 +147,96 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 			this.limit = buffer.limit();
 		}
 
+		@Override
+		byte[] array() {
+			return buffer.hasArray() ? buffer.array() : null;
+		}
+
+		@Override
+		int arrayIndex(int index, int amount) {
+			checkRange(index, amount);
+			return buffer.arrayOffset() + position + index;
+		}
+
+		@Override
+		public byte[] asByteArray(int index, int length) {
+			if (buffer.hasArray() && arrayIndex(index, length) == 0 && length == buffer.array().length) {
+				return buffer.array();
+			} else {
+				return super.asByteArray(index, length);
+			}
+		}
+
+		@Override
+		public ByteBuffer asByteBuffer(int index, int length) {
+			checkRange(index, length);
+			ByteBuffer view = buffer.duplicate();
+			view.limit(position + index + length).position(position + index);
+			return view;
+		}
+
 		public ByteBuffer backing() {
 			return buffer;
 		}
 
+		@Override
+		public <E extends Throwable> void forEach(ByteConsumer<E> consumer, int start, int length) throws E {
+			checkRange(start, length);
+			if (buffer.hasArray()) {
+				byte[] array = buffer.array();
+				int from = buffer.arrayOffset() + position + start;
+				for (int i = from; i < from + length; i++) {
+					consumer.accept(array[i]);
+				}
+			} else {
+				for (int i = position + start; i < position + start + length; i++) {
+					consumer.accept(buffer.get(i));
+				}
+			}
+		}
+
 		@Override
 		public byte get(int index) {
 			return buffer.get(position + index);
 		}
 
+		@Override
+		public Bytes get(int index, byte[] dst, int offset, int length) {
+			if (buffer.hasArray()) {
+				System.arraycopy(buffer.array(), arrayIndex(index, length), dst, offset, length);
+			} else {
+				window(index, length).get(dst, offset, length);
+				buffer.limit(limit);
+			}
+			return this;
+		}
+
+		@Override
+		public Bytes get(int index, Bytes dst, int dstIndex, int length) {
+			if (buffer.hasArray()) {
+				dst.put(dstIndex, buffer.array(), arrayIndex(index, length), length);
+			} else {
+				dst.put(dstIndex, length, window(index, length));
+				buffer.limit(limit);
+			}
+			return this;
+		}
+
 		@Override
 		public int get(int index, int amount, ByteBuffer dst) {
-			buffer.position(position + index).limit(position + index + Math.min(dst.remaining(), Math.min(amount, length())));
-			dst.put(buffer);
+			amount = Math.min(Math.min(amount, remaining(index)), dst.remaining());
+			dst.put(window(index, amount));
 			buffer.limit(limit);
-			return buffer.position() - index;
+			return amount;
+		}
+
+		@Override
+		String latin1(int index, int length) {
+			if (buffer.hasArray()) {
+				return new String(buffer.array(), arrayIndex(index, length), length, StandardCharsets.ISO_8859_1);
+			} else {
+				return super.latin1(index, length);
+			}
 		}
 
 		@Override
@@ -83,45 +244,146 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 			return limit - position;
 		}
 
+		int offset() {
+			return position;
+		}
+
 		@Override
 		public Bytes put(int index, byte b) {
 			buffer.put(position + index, b);
 			return this;
 		}
 
+		@Override
+		public Bytes put(int index, byte[] src, int offset, int length) {
+			if (buffer.hasArray()) {
+				System.arraycopy(src, offset, buffer.array(), arrayIndex(index, length), length);
+			} else {
+				window(index, length).put(src, offset, length);
+				buffer.limit(limit);
+			}
+			return this;
+		}
+
 		@Override
 		public int put(int index, int amount, ByteBuffer src) {
-			buffer.position(position + index).limit(position + index + Math.min(amount, length()));
+			amount = Math.min(Math.min(amount, remaining(index)), src.remaining());
 			int oldLimit = src.limit();
-			src.limit(Math.min(src.remaining(), buffer.remaining()));
-			buffer.put(src);
+			src.limit(src.position() + amount);
+			window(index, amount).put(src);
 			src.limit(oldLimit);
 			buffer.limit(limit);
-			return buffer.position() - index;
+			return amount;
 		}
 
 		@Override
 		public int readFrom(int index, int amount, ReadableByteChannel channel) throws IOException {
-			buffer.position(position + index).limit(position + index + amount);
 			try {
-				return channel.read(buffer);
+				return channel.read(window(index, Math.min(amount, remaining(index))));
 			} finally {
 				buffer.limit(limit);
 			}
 		}
 
+		@Override
+		public Bytes sliceBy(int offset, int length) {
+			return new Buffered(asByteBuffer(offset, length)) {
+
+				@Override
+				public void close() {
+					Buffered.this.close();
+				}
+			};
+		}
+
+		private ByteBuffer window(int index, int amount) {
+			checkRange(index, amount);
+			buffer.limit(position + index + amount).position(position + index);
+			return buffer;
+		}
+
 		@Override
 		public int writeTo(int index, int amount, WritableByteChannel channel) throws IOException {
-			buffer.position(position + index).limit(position + index + amount);
 			try {
-				return channel.write(buffer);
+				return channel.write(window(index, Math.min(amount, remaining(index))));
 			} finally {
 				buffer.limit(limit);
 			}
 		}
 	}
 
-	private static final int HASH_SEED = 0x9747b28c;
+	public static class Direct extends Buffered {
+
+		private final DirectArena arena;
+		private final AtomicBoolean closed;
+
+		Direct(DirectArena arena, ByteBuffer buffer) {
+			super(buffer);
+			this.arena = Require.nonNull(arena);
+			this.closed = new AtomicBoolean(false);
+		}
+
+		@Override
+		public void close() {
+			if (closed.compareAndSet(false, true)) {
+				arena.release(backing());
+			}
+		}
+	}
+
+	/**
+	 * A region of a file mapped into memory. Closing forces pending changes to the storage device and unmaps the region;
+	 * the bytes and all views of it must not be accessed afterwards.
+	 */
+	public static class Mapped extends Buffered {
+
+		private static void unmap(ByteBuffer buffer) {
+			try {
+				Class<?> unsafeType = Class.forName("sun.misc.Unsafe");
+				Field field = unsafeType.getDeclaredField("theUnsafe");
+				field.setAccessible(true);
+				unsafeType.getMethod("invokeCleaner", ByteBuffer.class).invoke(field.get(null), buffer);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				// unmapping is left to the garbage collector
+			}
+		}
+
+		private final MapMode mode;
+		private final AtomicBoolean closed;
+
+		Mapped(MapMode mode, MappedByteBuffer buffer) {
+			super(buffer);
+			this.mode = Require.nonNull(mode);
+			this.closed = new AtomicBoolean(false);
+		}
+
+		@Override
+		public void close() {
+			if (closed.compareAndSet(false, true)) {
+				force();
+				unmap(backing());
+			}
+		}
+
+		public Mapped force() {
+			if (isWritable()) {
+				((MappedByteBuffer) backing()).force();
+			}
+			return this;
+		}
+
+		public boolean isWritable() {
+			return mode != MapMode.READ_ONLY;
+		}
+
+		/**
+		 * Returns a view sharing the mapped region. The view does not own the mapping, so closing it has no effect.
+		 */
+		@Override
+		public Bytes sliceBy(int offset, int length) {
+			return new Buffered(asByteBuffer(offset, length));
+		}
+	}
 
 	public static final Bytes NONE = new Bytes() {
 
@@ -159,20 +421,9 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 		}
 	};
 
-	static int utfLength(CharSequence chars) {
-		int strlen = chars.length();
-		int utflen = 0;
-		for (int i = 0; i < strlen; i++) {
-			int c = chars.charAt(i);
-			if (c >= 0x0001 && c <= 0x007F) {
-				utflen++;
-			} else if (c > 0x07FF) {
-				utflen += 3;
-			} else {
-				utflen += 2;
-			}
-		}
-		return utflen;
+	public static Mapped map(FileChannel channel, MapMode mode, long position, int length) throws IOException {
+		Require.nonNulls(channel, mode);
+		return new Mapped(mode, channel.map(mode, position, length));
 	}
 
 	public static Bytes wrap(byte[] bytes) {
@@ -193,20 +444,214 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 		this.order = ByteOrder.BIG_ENDIAN;
 	}
 
+	byte[] array() {
+		return null;
+	}
+
+	int arrayIndex(int index, int amount) {
+		throw new UnsupportedOperationException("not array backed");
+	}
+
+	/**
+	 * Returns the given range as byte array, which is the backing array itself if it matches exactly or a copy otherwise.
+	 */
+	public byte[] asByteArray(int index, int length) {
+		checkRange(index, length);
+		byte[] copy = new byte[length];
+		get(index, copy);
+		return copy;
+	}
+
+	/**
+	 * Returns the given range as {@link ByteBuffer}, which shares its content with this bytes if possible or is a copy otherwise.
+	 */
+	public ByteBuffer asByteBuffer(int index, int length) {
+		checkRange(index, length);
+		byte[] copy = new byte[length];
+		get(index, copy);
+		return ByteBuffer.wrap(copy);
+	}
+
 	public Buffer buffered() {
 		return new Buffer(this);
 	}
 
+	void checkRange(int index, int amount) {
+		if (index < 0 || amount < 0 || amount > length() - index) {
+			throw new IndexOutOfBoundsException("index " + index + ", amount " + amount + ", length " + length());
+		}
+	}
+
 	@Override
 	public void close() {
 	}
 
+	/**
+	 * Compares lexicographically, treating bytes as unsigned.
+	 */
+	@Override
+	public int compareTo(Bytes other) {
+		int length = Math.min(this.length(), other.length());
+		int i = mismatch(0, other, 0, length);
+		return i >= 0 ? Byte.compareUnsigned(this.get(i), other.get(i)) : Integer.compare(this.length(), other.length());
+	}
+
 	public Bytes congruent(Bytes other) {
-		int i = 0;
-		while (this.get(i) == other.get(i)) {
-			i++;
+		int i = mismatch(other);
+		return i >= 0 ? sliceBy(0, i) : this;
+	}
+
+	private int continuation(int index, int end) {
+		if (index >= end) {
+			return Throwing.unchecked(new UTFDataFormatException("malformed input: partial character at end"));
+		}
+		int b = get(index);
+		if ((b & 0xC0) != 0x80) {
+			return Throwing.unchecked(new UTFDataFormatException("malformed input around byte " + index));
+		}
+		return b & 0x3F;
+	}
+
+	String decode(int index, int length) {
+		checkRange(index, length);
+		int ascii = 0;
+		while (ascii < length && get(index + ascii) >= 0) {
+			ascii++;
+		}
+		if (ascii == length) {
+			return latin1(index, length);
+		}
+
+		char[] chars = new char[length];
+		int count = 0;
+		while (count < ascii) {
+			chars[count] = (char) get(index + count);
+			count++;
+		}
+		int end = index + length;
+		int i = index + ascii;
+		while (i < end) {
+			int c = get(i++) & 0xFF;
+			if (c < 0x80) {
+				/* 0xxx xxxx */
+				chars[count++] = (char) c;
+			} else if ((c & 0xE0) == 0xC0) {
+				/* 110x xxxx 10xx xxxx */
+				chars[count++] = (char) (((c & 0x1F) << 6) | continuation(i++, end));
+			} else if ((c & 0xF0) == 0xE0) {
+				/* 1110 xxxx 10xx xxxx 10xx xxxx */
+				chars[count++] = (char) (((c & 0x0F) << 12) | (continuation(i++, end) << 6) | continuation(i++, end));
+			} else if ((c & 0xF8) == 0xF0) {
+				/* 1111 0xxx 10xx xxxx 10xx xxxx 10xx xxxx */
+				int codePoint = ((c & 0x07) << 18) | (continuation(i++, end) << 12) | (continuation(i++, end) << 6) | continuation(i++, end);
+				chars[count++] = Character.highSurrogate(codePoint);
+				chars[count++] = Character.lowSurrogate(codePoint);
+			} else {
+				/* 10xx xxxx, 1111 1xxx */
+				return Throwing.unchecked(new UTFDataFormatException("malformed input around byte " + (i - 1)));
+			}
+		}
+		return new String(chars, 0, count);
+	}
+
+	/**
+	 * Encodes the given chars in a single pass, but stops before writing beyond the given limit.
+	 *
+	 * @return the number of bytes written, or -1 if the encoded chars exceed the limit
+	 */
+	private int encode(int index, int limit, CharSequence chars, boolean modified) {
+		int start = index;
+		int length = chars.length();
+		for (int i = 0; i < length; i++) {
+			char c = chars.charAt(i);
+			if (c < 0x80 && (c != 0 || !modified)) {
+				if (index >= limit) {
+					return -1;
+				}
+				put(index++, (byte) c);
+			} else if (c < 0x800) {
+				if (limit - index < 2) {
+					return -1;
+				}
+				put(index++, (byte) (0xC0 | (c >> 6)));
+				put(index++, (byte) (0x80 | (c & 0x3F)));
+			} else if (!modified && Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+				if (limit - index < 4) {
+					return -1;
+				}
+				int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+				put(index++, (byte) (0xF0 | (codePoint >> 18)));
+				put(index++, (byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+				put(index++, (byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+				put(index++, (byte) (0x80 | (codePoint & 0x3F)));
+			} else {
+				if (limit - index < 3) {
+					return -1;
+				}
+				put(index++, (byte) (0xE0 | (c >> 12)));
+				put(index++, (byte) (0x80 | ((c >> 6) & 0x3F)));
+				put(index++, (byte) (0x80 | (c & 0x3F)));
+			}
+		}
+		return index - start;
+	}
+
+	/**
+	 * Encodes the given chars as modified UTF-8 in a single pass, prefixed by their encoded length as unsigned short.
+	 *
+	 * @return the number of bytes written, including the length prefix
+	 */
+	public int encodeUTF(int index, CharSequence chars) {
+		int encoded = encodeUTF(index, length(), chars);
+		if (encoded < 0) {
+			throw new IndexOutOfBoundsException("index " + index + ", chars " + chars.length() + ", length " + length());
+		}
+		return encoded;
+	}
+
+	/**
+	 * Encodes the chars behind the space of the length prefix, which is only written once the encoded length is known to
+	 * fit. Bytes up to the limit may have been overwritten by chars, which did not fit.
+	 *
+	 * @return the number of bytes written, including the length prefix, or -1 if they exceed the limit
+	 */
+	int encodeUTF(int index, int limit, CharSequence chars) {
+		if (chars.length() > 0xFFFF) {
+			return Throwing.unchecked(new UTFDataFormatException("encoded string too long: " + chars.length() + " chars"));
+		} else if (limit - index < 2) {
+			return -1;
 		}
-		return sliceBy(0, i);
+		boolean limited = limit - index - 2 < 0xFFFF;
+		int utflen = encode(index + 2, limited ? limit : index + 2 + 0xFFFF, chars, true);
+		if (utflen < 0 && !limited) {
+			return Throwing.unchecked(new UTFDataFormatException("encoded string too long: more than 65535 bytes"));
+		} else if (utflen < 0) {
+			return -1;
+		}
+		putUnsignedShort(index, utflen);
+		return utflen + 2;
+	}
+
+	/**
+	 * Encodes the given chars as standard UTF-8 in a single pass.
+	 *
+	 * @return the number of bytes written
+	 */
+	public int encodeUTF8(int index, CharSequence chars) {
+		int encoded = encode(index, length(), chars, false);
+		if (encoded < 0) {
+			throw new IndexOutOfBoundsException("index " + index + ", chars " + chars.length() + ", length " + length());
+		}
+		return encoded;
+	}
+
+	/**
+	 * Encodes the given chars as standard UTF-8 in a single pass, unless they exceed the limit.
+	 *
+	 * @return the number of bytes written, or -1 if they exceed the limit
+	 */
+	int encodeUTF8(int index, int limit, CharSequence chars) {
+		return encode(index, limit, chars, false);
 	}
 
 	public <E extends Throwable> void forEach(ByteConsumer<E> consumer) throws E {
@@ -235,11 +680,23 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 		return this;
 	}
 
+	public Bytes get(int index, Bytes dst, int dstIndex, int length) {
+		for (int i = 0; i < length; i++) {
+			dst.put(dstIndex + i, get(index + i));
+		}
+		return this;
+	}
+
 	public int get(int index, int amount, ByteBuffer dst) {
 		amount = Math.min(amount, remaining(index));
 		amount = Math.min(amount, dst.remaining());
-		for (int i = 0; i < amount; i++) {
-			dst.put(get(index++));
+		if (dst.hasArray()) {
+			get(index, dst.array(), dst.arrayOffset() + dst.position(), amount);
+			dst.position(dst.position() + amount);
+		} else {
+			for (int i = 0; i < amount; i++) {
+				dst.put(get(index++));
+			}
 		}
 		return amount;
 	}
@@ -247,9 +704,8 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 	public int get(int index, int amount, WriteBuffer dst) {
 		amount = Math.min(amount, remaining(index));
 		amount = Math.min(amount, dst.remaining());
-		for (int i = 0; i < amount; i++) {
-			dst.put(get(index++));
-		}
+		get(index, dst.backing(), dst.position(), amount);
+		dst.position(dst.position() + amount);
 		return amount;
 	}
 
@@ -289,102 +745,84 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 		return Short.toUnsignedInt(getShort(index));
 	}
 
+	/**
+	 * Decodes a modified UTF-8 string, prefixed by its encoded length as unsigned short.
+	 */
 	public String getUTF(int index) {
-		return getUTFAsBuilder(index).toString();
+		return decode(index + 2, getUnsignedShort(index));
 	}
 
 	public StringBuilder getUTFAsBuilder(int index) {
-		int utflen = getUnsignedShort(index);
-		StringBuilder builder = new StringBuilder(utflen);
-
-		int c, char2, char3;
-		int count = index;
-		while (count < index + utflen) {
-			c = get(count);
-			switch (c >> 4) {
-			case 0:
-			case 1:
-			case 2:
-			case 3:
-			case 4:
-			case 5:
-			case 6:
-			case 7:
-				/* 0xxxxxxx */
-				count++;
-				builder.append((char) c);
-				break;
-			case 12:
-			case 13:
-				/* 110x xxxx 10xx xxxx */
-				count += 2;
-				if (count > utflen) {
-					return Throwing.unchecked(new UTFDataFormatException("malformed input: partial character at end"));
-				}
-				char2 = get(count - 1);
-				if ((char2 & 0xC0) != 0x80) {
-					return Throwing.unchecked(new UTFDataFormatException("malformed input around byte " + count));
-				}
-				builder.append((char) (((c & 0x1F) << 6) | (char2 & 0x3F)));
-				break;
-			case 14:
-				/* 1110 xxxx 10xx xxxx 10xx xxxx */
-				count += 3;
-				if (count > utflen) {
-					return Throwing.unchecked(new UTFDataFormatException("malformed input: partial character at end"));
-				}
-				char2 = get(count - 2);
-				char3 = get(count - 1);
-				if (((char2 & 0xC0) != 0x80) || ((char3 & 0xC0) != 0x80)) {
-					return Throwing.unchecked(new UTFDataFormatException("malformed input around byte " + (count - 1)));
-				}
-				builder.append((char) (((c & 0x0F) << 12) | ((char2 & 0x3F) << 6) | ((char3 & 0x3F) << 0)));
-				break;
-			default:
-				/* 10xx xxxx, 1111 xxxx */
-				return Throwing.unchecked(new UTFDataFormatException("malformed input around byte " + count));
-			}
-		}
-		return builder;
+		return new StringBuilder(getUTF(index));
 	}
 
-	public int hash(int index, int length) {
-		// 'm' and 'r' are mixing constants generated offline.
-		// They're not really 'magic', they just happen to work well.
-		final int m = 0x5bd1e995;
-		final int r = 24;
+	/**
+	 * Decodes a standard UTF-8 string of the given encoded length.
+	 */
+	public String getUTF8(int index, int length) {
+		return decode(index, length);
+	}
 
-		// Initialize the hash to a random value
-		int h = HASH_SEED ^ length;
+	public int hash(int index, int length) {
+		long hash = hash64(index, length);
+		return (int) (hash ^ (hash >>> 32));
+	}
 
-		for (int i = index; i < length - 3; i += Integer.BYTES) {
-			int k = getInt(i);
-			k *= m;
-			k ^= k >>> r;
-			k *= m;
-			h *= m;
-			h ^= k;
-		}
+	/**
+	 * Returns the xxHash64 of the given range.
+	 */
+	public long hash64(int index, int length) {
+		return Hasher.hash(this, index, length, 0);
+	}
 
-		// Handle the last few bytes of the input array
-		switch (length % 4) {
-		case 3:
-			h ^= (get((length & ~3) + 2) & 0xff) << 16;
-		case 2:
-			h ^= (get((length & ~3) + 1) & 0xff) << 8;
-		case 1:
-			h ^= get(length & ~3) & 0xff;
-			h *= m;
-		}
+	String latin1(int index, int length) {
+		return new String(asByteArray(index, length), StandardCharsets.ISO_8859_1);
+	}
 
-		h ^= h >>> 13;
-		h *= m;
-		h ^= h >>> 15;
+	public abstract int length();
 
-		return h;
+	/**
+	 * Returns the index of the first differing byte, the length of the shorter bytes if one is a prefix of the other or
+	 * -1 if both are equal.
+	 */
+	public int mismatch(Bytes other) {
+		int length = Math.min(this.length(), other.length());
+		int i = mismatch(0, other, 0, length);
+		return i < 0 && this.length() != other.length() ? length : i;
 	}
 
-	public abstract int length();
+	/**
+	 * Returns the relative index of the first differing byte within the given ranges or -1 if both are equal. Compares
+	 * array backed bytes with {@link Arrays#mismatch}, others a word at a time.
+	 */
+	public int mismatch(int index, Bytes other, int otherIndex, int length) {
+		checkRange(index, length);
+		other.checkRange(otherIndex, length);
+		byte[] array = this.array();
+		byte[] otherArray = other.array();
+		if (array != null && otherArray != null) {
+			int from = this.arrayIndex(index, length);
+			int otherFrom = other.arrayIndex(otherIndex, length);
+			return Arrays.mismatch(array, from, from + length, otherArray, otherFrom, otherFrom + length);
+		}
+
+		int i = 0;
+		while (i <= length - Long.BYTES) {
+			long word = ByteOrder.BIG_ENDIAN.getLong(this, index + i);
+			long otherWord = ByteOrder.BIG_ENDIAN.getLong(other, otherIndex + i);
+			if (word != otherWord) {
+				return i + (Long.numberOfLeadingZeros(word ^ otherWord) >>> 3);
+			}
+			i += Long.BYTES;
+		}
+		while (i < length) {
+			if (get(index + i) != other.get(otherIndex + i)) {
+				return i;
+			}
+			i++;
+		}
+		return -1;
+	}
 
 	public ByteOrder order() {
 		return order;
@@ -409,11 +847,21 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 		return this;
 	}
 
+	public Bytes put(int index, Bytes src, int srcIndex, int length) {
+		src.get(srcIndex, this, index, length);
+		return this;
+	}
+
 	public int put(int index, int amount, ByteBuffer src) {
 		amount = Math.min(amount, remaining(index));
 		amount = Math.min(amount, src.remaining());
-		for (int i = 0; i < amount; i++) {
-			put(index++, src.get());
+		if (src.hasArray()) {
+			put(index, src.array(), src.arrayOffset() + src.position(), amount);
+			src.position(src.position() + amount);
+		} else {
+			for (int i = 0; i < amount; i++) {
+				put(index++, src.get());
+			}
 		}
 		return amount;
 	}
@@ -421,9 +869,8 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 	public int put(int index, int amount, ReadBuffer src) {
 		amount = Math.min(amount, remaining(index));
 		amount = Math.min(amount, src.remaining());
-		for (int i = 0; i < amount; i++) {
-			put(index++, src.get());
-		}
+		put(index, src.backing(), src.position(), amount);
+		src.position(src.position() + amount);
 		return amount;
 	}
 
@@ -472,27 +919,7 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 	}
 
 	public Bytes putUTF(int index, CharSequence chars) {
-		int strlen = chars.length();
-		int utflen = utfLength(chars);
-		if (utflen > 65535) {
-			return Throwing.unchecked(new UTFDataFormatException("encoded string too long: " + utflen + " bytes"));
-		}
-
-		putUnsignedShort(index, utflen);
-		index += 2;
-		for (int i = 0; i < strlen; i++) {
-			int c = chars.charAt(i);
-			if ((c >= 0x0001) && (c <= 0x007F)) {
-				put(index++, (byte) c);
-			} else if (c > 0x07FF) {
-				put(index++, (byte) (0xE0 | ((c >> 12) & 0x0F)));
-				put(index++, (byte) (0x80 | ((c >> 6) & 0x3F)));
-				put(index++, (byte) (0x80 | ((c >> 0) & 0x3F)));
-			} else {
-				put(index++, (byte) (0xC0 | ((c >> 6) & 0x1F)));
-				put(index++, (byte) (0x80 | ((c >> 0) & 0x3F)));
-			}
-		}
+		encodeUTF(index, chars);
 		return this;
 	}
 
@@ -515,11 +942,33 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 	public Bytes readOnly() {
 		return new Bytes() {
 
+			@Override
+			public <E extends Throwable> void forEach(ByteConsumer<E> consumer, int start, int length) throws E {
+				Bytes.this.forEach(consumer, start, length);
+			}
+
 			@Override
 			public byte get(int index) {
 				return Bytes.this.get(index);
 			}
 
+			@Override
+			public Bytes get(int index, byte[] dst, int offset, int length) {
+				Bytes.this.get(index, dst, offset, length);
+				return this;
+			}
+
+			@Override
+			public Bytes get(int index, Bytes dst, int dstIndex, int length) {
+				Bytes.this.get(index, dst, dstIndex, length);
+				return this;
+			}
+
+			@Override
+			public int get(int index, int amount, ByteBuffer dst) {
+				return Bytes.this.get(index, amount, dst);
+			}
+
 			@Override
 			public int length() {
 				return Bytes.this.length();
@@ -529,10 +978,30 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 			public Bytes put(int index, byte b) {
 				throw new UnsupportedOperationException("read only");
 			}
+
+			@Override
+			public Bytes put(int index, byte[] src, int offset, int length) {
+				throw new UnsupportedOperationException("read only");
+			}
+
+			@Override
+			public int put(int index, int amount, ByteBuffer src) {
+				throw new UnsupportedOperationException("read only");
+			}
+
+			@Override
+			public int readFrom(int index, int amount, ReadableByteChannel channel) throws IOException {
+				throw new UnsupportedOperationException("read only");
+			}
+
+			@Override
+			public int writeTo(int index, int amount, WritableByteChannel channel) throws IOException {
+				return Bytes.this.writeTo(index, amount, channel);
+			}
 		};
 	}
 
-	private int remaining(int index) {
+	int remaining(int index) {
 		return length() - index;
 	}
 
@@ -548,11 +1017,36 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 				Bytes.this.close();
 			}
 
+			@Override
+			public <E extends Throwable> void forEach(ByteConsumer<E> consumer, int start, int length) throws E {
+				checkRange(start, length);
+				Bytes.this.forEach(consumer, offset + start, length);
+			}
+
 			@Override
 			public byte get(int index) {
 				return Bytes.this.get(offset + index);
 			}
 
+			@Override
+			public Bytes get(int index, byte[] dst, int dstOffset, int length) {
+				checkRange(index, length);
+				Bytes.this.get(offset + index, dst, dstOffset, length);
+				return this;
+			}
+
+			@Override
+			public Bytes get(int index, Bytes dst, int dstIndex, int length) {
+				checkRange(index, length);
+				Bytes.this.get(offset + index, dst, dstIndex, length);
+				return this;
+			}
+
+			@Override
+			public int get(int index, int amount, ByteBuffer dst) {
+				return Bytes.this.get(offset + index, Math.min(amount, length - index), dst);
+			}
+
 			@Override
 			public int length() {
 				return length;
@@ -563,6 +1057,28 @@ public abstract class Bytes implements IndexedBytes, AutoCloseable {
 				Bytes.this.put(offset + index, b);
 				return this;
 			}
+
+			@Override
+			public Bytes put(int index, byte[] src, int srcOffset, int length) {
+				checkRange(index, length);
+				Bytes.this.put(offset + index, src, srcOffset, length);
+				return this;
+			}
+
+			@Override
+			public int put(int index, int amount, ByteBuffer src) {
+				return Bytes.this.put(offset + index, Math.min(amount, length - index), src);
+			}
+
+			@Override
+			public int readFrom(int index, int amount, ReadableByteChannel channel) throws IOException {
+				return Bytes.this.readFrom(offset + index, Math.min(amount, length - index), channel);
+			}
+
+			@Override
+			public int writeTo(int index, int amount, WritableByteChannel channel) throws IOException {
+				return Bytes.this.writeTo(offset + index, Math.min(amount, length - index), channel);
+			}
 		};
 	}
 
@@ -0,0 +1,209 @@
+package org.ddd4j.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
+
+import org.ddd4j.util.Require;
+
+/**
+ * Logical concatenation of several {@link Bytes} without copying them. Channel transfers are done with a single
+ * gathering write or scattering read over all affected parts.
+ */
+public class CompositeBytes extends Bytes {
+
+	/**
+	 * Concatenates the given parts, which get closed along with the composite.
+	 */
+	public static CompositeBytes of(Bytes... parts) {
+		return new CompositeBytes(parts.clone(), true);
+	}
+
+	/**
+	 * Concatenates the remaining bytes of the given buffers, without altering their positions. The buffers stay owned by
+	 * the caller, so closing the composite does not close them.
+	 */
+	public static CompositeBytes of(ReadBuffer... buffers) {
+		Bytes[] parts = new Bytes[buffers.length];
+		for (int i = 0; i < buffers.length; i++) {
+			parts[i] = buffers[i].backing().sliceBy(buffers[i].position(), buffers[i].remaining());
+		}
+		return new CompositeBytes(parts, false);
+	}
+
+	private final Bytes[] parts;
+	/**
+	 * Offsets are longs, as parts like {@link PooledBytes} have a logical length of up to {@link Integer#MAX_VALUE}. Bytes
+	 * beyond {@link Integer#MAX_VALUE} are not addressable.
+	 */
+	private final long[] offsets;
+	private final int totalLength;
+	private final boolean ownsParts;
+
+	private CompositeBytes(Bytes[] parts, boolean ownsParts) {
+		this.parts = Require.nonNulls(parts);
+		this.offsets = new long[parts.length + 1];
+		for (int i = 0; i < parts.length; i++) {
+			offsets[i + 1] = offsets[i] + parts[i].length();
+		}
+		this.totalLength = (int) Math.min(offsets[parts.length], Integer.MAX_VALUE);
+		this.ownsParts = ownsParts;
+	}
+
+	private ByteBuffer[] buffers(int index, int amount) {
+		int first = part(index);
+		int last = part(index + amount - 1);
+		ByteBuffer[] buffers = new ByteBuffer[last - first + 1];
+		for (int i = first; i <= last; i++) {
+			int from = (int) Math.max(index - offsets[i], 0);
+			int to = (int) Math.min(index + amount - offsets[i], parts[i].length());
+			buffers[i - first] = parts[i].asByteBuffer(from, to - from);
+		}
+		return buffers;
+	}
+
+	@Override
+	public void close() {
+		if (ownsParts) {
+			for (Bytes part : parts) {
+				part.close();
+			}
+		}
+	}
+
+	@Override
+	public byte get(int index) {
+		int part = part(index);
+		return parts[part].get(offset(index, part));
+	}
+
+	@Override
+	public Bytes get(int index, byte[] dst, int offset, int length) {
+		checkRange(index, length);
+		while (length > 0) {
+			int part = part(index);
+			int amount = (int) Math.min(length, offsets[part + 1] - index);
+			parts[part].get(offset(index, part), dst, offset, amount);
+			index += amount;
+			offset += amount;
+			length -= amount;
+		}
+		return this;
+	}
+
+	@Override
+	public Bytes get(int index, Bytes dst, int dstIndex, int length) {
+		checkRange(index, length);
+		while (length > 0) {
+			int part = part(index);
+			int amount = (int) Math.min(length, offsets[part + 1] - index);
+			parts[part].get(offset(index, part), dst, dstIndex, amount);
+			index += amount;
+			dstIndex += amount;
+			length -= amount;
+		}
+		return this;
+	}
+
+	@Override
+	public int getInt(int index) {
+		int part = part(index);
+		return (long) index + Integer.BYTES <= offsets[part + 1] ? order().getInt(parts[part], offset(index, part)) : super.getInt(index);
+	}
+
+	@Override
+	public long getLong(int index) {
+		int part = part(index);
+		return (long) index + Long.BYTES <= offsets[part + 1] ? order().getLong(parts[part], offset(index, part)) : super.getLong(index);
+	}
+
+	private boolean isScatterable(int index, int amount) {
+		for (int i = part(index); i <= part(index + amount - 1); i++) {
+			if (!(parts[i] instanceof Arrayed) && !(parts[i] instanceof Buffered)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int length() {
+		return totalLength;
+	}
+
+	private int offset(int index, int part) {
+		return (int) (index - offsets[part]);
+	}
+
+	private int part(int index) {
+		if (index < 0 || index >= length()) {
+			throw new IndexOutOfBoundsException("index " + index + ", length " + length());
+		}
+		int part = Arrays.binarySearch(offsets, 0, parts.length, index);
+		if (part < 0) {
+			return -part - 2;
+		}
+		while (offsets[part + 1] == index) {
+			part++;
+		}
+		return part;
+	}
+
+	public int partCount() {
+		return parts.length;
+	}
+
+	@Override
+	public Bytes put(int index, byte b) {
+		int part = part(index);
+		parts[part].put(offset(index, part), b);
+		return this;
+	}
+
+	@Override
+	public Bytes put(int index, byte[] src, int offset, int length) {
+		checkRange(index, length);
+		while (length > 0) {
+			int part = part(index);
+			int amount = (int) Math.min(length, offsets[part + 1] - index);
+			parts[part].put(offset(index, part), src, offset, amount);
+			index += amount;
+			offset += amount;
+			length -= amount;
+		}
+		return this;
+	}
+
+	/**
+	 * Reads with a single scattering read into all affected parts, if these share their content with
+	 * {@link #asByteBuffer(int, int)}.
+	 */
+	@Override
+	public int readFrom(int index, int amount, ReadableByteChannel channel) throws IOException {
+		amount = Math.min(amount, remaining(index));
+		if (amount <= 0 || !(channel instanceof ScatteringByteChannel) || !isScatterable(index, amount)) {
+			return super.readFrom(index, amount, channel);
+		}
+		long read = ((ScatteringByteChannel) channel).read(buffers(index, amount));
+		return (int) Math.max(read, 0);
+	}
+
+	@Override
+	public int writeTo(int index, int amount, WritableByteChannel channel) throws IOException {
+		amount = Math.min(amount, remaining(index));
+		if (amount <= 0 || !(channel instanceof GatheringByteChannel)) {
+			return super.writeTo(index, amount, channel);
+		}
+		ByteBuffer[] buffers = buffers(index, amount);
+		GatheringByteChannel gathering = (GatheringByteChannel) channel;
+		int total = 0;
+		while (buffers[buffers.length - 1].hasRemaining()) {
+			total += (int) gathering.write(buffers);
+		}
+		return total;
+	}
+}
@@ -0,0 +1,77 @@
+package org.ddd4j.io;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.ddd4j.util.Require;
+
+/**
+ * Allocates off-heap buffers in power of two size classes, carved from slabs of direct memory. Buffers larger than a slab
+ * are allocated individually and freed by the garbage collector. Slabs are never freed, as their slices are scattered
+ * over the free lists, so the off-heap footprint of the arena stays at the highest demand seen per size class.
+ */
+public class DirectArena {
+
+	private static final int MIN_SIZE_SHIFT = 6;
+
+	private static int sizeClassOf(int size) {
+		int shift = size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+		return Math.max(shift, MIN_SIZE_SHIFT) - MIN_SIZE_SHIFT;
+	}
+
+	private final int slabSize;
+	private final List<Queue<ByteBuffer>> freeLists;
+
+	public DirectArena(int slabSize) {
+		Require.that(slabSize >= 1 << MIN_SIZE_SHIFT);
+		this.slabSize = Integer.highestOneBit(slabSize);
+		int sizeClasses = sizeClassOf(this.slabSize) + 1;
+		this.freeLists = new ArrayList<>(sizeClasses);
+		for (int i = 0; i < sizeClasses; i++) {
+			freeLists.add(new ConcurrentLinkedQueue<>());
+		}
+	}
+
+	public Bytes.Direct allocate(int size) {
+		Require.that(size >= 0);
+		int sizeClass = sizeClassOf(size);
+		ByteBuffer buffer;
+		if (sizeClass < freeLists.size()) {
+			buffer = freeLists.get(sizeClass).poll();
+			if (buffer == null) {
+				buffer = refill(sizeClass);
+			}
+		} else {
+			buffer = ByteBuffer.allocateDirect(size);
+		}
+		buffer.limit(size);
+		return new Bytes.Direct(this, buffer);
+	}
+
+	public int available(int size) {
+		int sizeClass = sizeClassOf(size);
+		return sizeClass < freeLists.size() ? freeLists.get(sizeClass).size() : 0;
+	}
+
+	private ByteBuffer refill(int sizeClass) {
+		int classSize = 1 << (sizeClass + MIN_SIZE_SHIFT);
+		ByteBuffer slab = ByteBuffer.allocateDirect(slabSize);
+		for (int offset = classSize; offset < slabSize; offset += classSize) {
+			slab.limit(offset + classSize).position(offset);
+			freeLists.get(sizeClass).offer(slab.slice());
+		}
+		slab.position(0).limit(classSize);
+		return slab.slice();
+	}
+
+	void release(ByteBuffer buffer) {
+		int sizeClass = sizeClassOf(buffer.capacity());
+		if (sizeClass < freeLists.size() && buffer.capacity() == 1 << (sizeClass + MIN_SIZE_SHIFT)) {
+			buffer.clear();
+			freeLists.get(sizeClass).offer(buffer);
+		}
+	}
+}
@@ -0,0 +1,185 @@
+package org.ddd4j.io;
+
+import org.ddd4j.util.Require;
+
+/**
+ * Streaming xxHash64. Input is consumed in blocks of 32 bytes, read as little endian words, so that array and buffer
+ * backed {@link Bytes} are hashed 8 bytes at a time.
+ */
+public class Hasher {
+
+	private static final int BLOCK_SIZE = 32;
+
+	private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+	private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+	private static final long PRIME64_3 = 0x165667B19E3779F9L;
+	private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+	private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+	private static long avalanche(long h) {
+		h ^= h >>> 33;
+		h *= PRIME64_2;
+		h ^= h >>> 29;
+		h *= PRIME64_3;
+		h ^= h >>> 32;
+		return h;
+	}
+
+	private static long finish(long h, Bytes bytes, int index, int end) {
+		while (index + Long.BYTES <= end) {
+			h ^= round(0, word(bytes, index));
+			h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+			index += Long.BYTES;
+		}
+		if (index + Integer.BYTES <= end) {
+			h ^= (ByteOrder.LITTLE_ENDIAN.getInt(bytes, index) & 0xFFFFFFFFL) * PRIME64_1;
+			h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+			index += Integer.BYTES;
+		}
+		while (index < end) {
+			h ^= (bytes.get(index) & 0xFF) * PRIME64_5;
+			h = Long.rotateLeft(h, 11) * PRIME64_1;
+			index++;
+		}
+		return avalanche(h);
+	}
+
+	public static long hash(Bytes bytes, int index, int length, long seed) {
+		bytes.checkRange(index, length);
+		int end = index + length;
+		long h;
+		if (length >= BLOCK_SIZE) {
+			long v1 = seed + PRIME64_1 + PRIME64_2;
+			long v2 = seed + PRIME64_2;
+			long v3 = seed;
+			long v4 = seed - PRIME64_1;
+			do {
+				v1 = round(v1, word(bytes, index));
+				v2 = round(v2, word(bytes, index + 8));
+				v3 = round(v3, word(bytes, index + 16));
+				v4 = round(v4, word(bytes, index + 24));
+				index += BLOCK_SIZE;
+			} while (index <= end - BLOCK_SIZE);
+			h = merge(v1, v2, v3, v4);
+		} else {
+			h = seed + PRIME64_5;
+		}
+		return finish(h + length, bytes, index, end);
+	}
+
+	private static long merge(long v1, long v2, long v3, long v4) {
+		long h = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+		h = mergeRound(h, v1);
+		h = mergeRound(h, v2);
+		h = mergeRound(h, v3);
+		h = mergeRound(h, v4);
+		return h;
+	}
+
+	private static long mergeRound(long h, long v) {
+		h ^= round(0, v);
+		return h * PRIME64_1 + PRIME64_4;
+	}
+
+	private static long round(long acc, long input) {
+		acc += input * PRIME64_2;
+		acc = Long.rotateLeft(acc, 31);
+		return acc * PRIME64_1;
+	}
+
+	private static long word(Bytes bytes, int index) {
+		return ByteOrder.LITTLE_ENDIAN.getLong(bytes, index);
+	}
+
+	private final long seed;
+	private final Bytes memory;
+	private int memorySize;
+	private long totalLength;
+	private long v1;
+	private long v2;
+	private long v3;
+	private long v4;
+
+	public Hasher() {
+		this(0);
+	}
+
+	public Hasher(long seed) {
+		this.seed = seed;
+		this.memory = Bytes.wrap(new byte[BLOCK_SIZE]);
+		reset();
+	}
+
+	private void block(Bytes bytes, int index) {
+		v1 = round(v1, word(bytes, index));
+		v2 = round(v2, word(bytes, index + 8));
+		v3 = round(v3, word(bytes, index + 16));
+		v4 = round(v4, word(bytes, index + 24));
+	}
+
+	/**
+	 * Returns the hash of all bytes passed so far. The state is not altered, so more bytes can be appended afterwards.
+	 */
+	public long digest() {
+		long h = totalLength >= BLOCK_SIZE ? merge(v1, v2, v3, v4) : seed + PRIME64_5;
+		return finish(h + totalLength, memory, 0, memorySize);
+	}
+
+	public Hasher reset() {
+		v1 = seed + PRIME64_1 + PRIME64_2;
+		v2 = seed + PRIME64_2;
+		v3 = seed;
+		v4 = seed - PRIME64_1;
+		memorySize = 0;
+		totalLength = 0;
+		return this;
+	}
+
+	public Hasher update(byte b) {
+		memory.put(memorySize++, b);
+		totalLength++;
+		if (memorySize == BLOCK_SIZE) {
+			block(memory, 0);
+			memorySize = 0;
+		}
+		return this;
+	}
+
+	public Hasher update(byte[] bytes, int offset, int length) {
+		return update(Bytes.wrap(bytes, offset, length), 0, length);
+	}
+
+	public Hasher update(Bytes bytes, int index, int length) {
+		bytes.checkRange(index, length);
+		int end = index + length;
+		totalLength += length;
+		if (memorySize + length < BLOCK_SIZE) {
+			bytes.get(index, memory, memorySize, length);
+			memorySize += length;
+			return this;
+		}
+
+		if (memorySize > 0) {
+			int fill = BLOCK_SIZE - memorySize;
+			bytes.get(index, memory, memorySize, fill);
+			block(memory, 0);
+			index += fill;
+			memorySize = 0;
+		}
+		while (index <= end - BLOCK_SIZE) {
+			block(bytes, index);
+			index += BLOCK_SIZE;
+		}
+		memorySize = end - index;
+		bytes.get(index, memory, 0, memorySize);
+		return this;
+	}
+
+	/**
+	 * Hashes the remaining bytes of the given buffer without consuming them.
+	 */
+	public Hasher update(ReadBuffer buffer) {
+		Require.nonNull(buffer);
+		return update(buffer.backing(), buffer.position(), buffer.remaining());
+	}
+}
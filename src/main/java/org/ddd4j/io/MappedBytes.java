@@ -0,0 +1,221 @@
+package org.ddd4j.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+import org.ddd4j.util.Require;
+
+/**
+ * Bytes backed by a file, starting at a given position. Writable mappings grow in page-aligned steps on writes beyond
+ * the mapped region, while reads beyond it return zeros. As mapping extends the file with zeros, the bytes written are
+ * tracked as {@link #written()} and the file gets truncated to them on close.
+ */
+public class MappedBytes extends Bytes {
+
+	public static final int PAGE_SIZE = 4096;
+
+	private static final long MAX_LENGTH = Integer.MAX_VALUE & -PAGE_SIZE;
+
+	private static long pageAligned(long size) {
+		return Math.min((size + PAGE_SIZE - 1) & -PAGE_SIZE, MAX_LENGTH);
+	}
+
+	private final FileChannel channel;
+	private final MapMode mode;
+	private final long position;
+	private Bytes.Mapped region;
+	private int written;
+
+	public MappedBytes(FileChannel channel, MapMode mode, long position) throws IOException {
+		Require.nonNulls(channel, mode);
+		Require.that(position >= 0);
+		this.channel = channel;
+		this.mode = mode;
+		this.position = position;
+		long size = Math.max(channel.size() - position, 0);
+		this.written = (int) Math.min(size, MAX_LENGTH);
+		this.region = Bytes.map(channel, mode, position, (int) (isWritable() ? pageAligned(Math.max(size, PAGE_SIZE)) : Math.min(size, Integer.MAX_VALUE)));
+	}
+
+	/**
+	 * Unmaps the file and truncates a writable one to the bytes written, cutting off the zeros of the mapping.
+	 */
+	@Override
+	public void close() {
+		region.close();
+		if (isWritable()) {
+			try {
+				channel.truncate(position + written);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	public MappedBytes force() {
+		region.force();
+		return this;
+	}
+
+	@Override
+	public byte get(int index) {
+		return index < region.length() ? region.get(index) : 0;
+	}
+
+	@Override
+	public Bytes get(int index, byte[] dst, int offset, int length) {
+		if (readable(index, length)) {
+			region.get(index, dst, offset, length);
+			return this;
+		} else {
+			return super.get(index, dst, offset, length);
+		}
+	}
+
+	@Override
+	public Bytes get(int index, Bytes dst, int dstIndex, int length) {
+		if (readable(index, length)) {
+			region.get(index, dst, dstIndex, length);
+			return this;
+		} else {
+			return super.get(index, dst, dstIndex, length);
+		}
+	}
+
+	@Override
+	public int get(int index, int amount, ByteBuffer dst) {
+		return readable(index, Math.min(amount, dst.remaining())) ? region.get(index, amount, dst) : super.get(index, amount, dst);
+	}
+
+	@Override
+	public int getInt(int index) {
+		return readable(index, Integer.BYTES) ? order().getInt(region, index) : super.getInt(index);
+	}
+
+	@Override
+	public long getLong(int index) {
+		return readable(index, Long.BYTES) ? order().getLong(region, index) : super.getLong(index);
+	}
+
+	@Override
+	public short getShort(int index) {
+		return readable(index, Short.BYTES) ? order().getShort(region, index) : super.getShort(index);
+	}
+
+	public boolean isWritable() {
+		return mode != MapMode.READ_ONLY;
+	}
+
+	/**
+	 * Returns the length up to which writable bytes may grow, or the length of the file for read-only ones. See
+	 * {@link #written()} for the end of the data.
+	 */
+	@Override
+	public int length() {
+		return isWritable() ? (int) MAX_LENGTH : region.length();
+	}
+
+	/**
+	 * Returns the mapped region covering the given range, remapping a larger page-aligned region if needed. The previous
+	 * region is only forced, as views of it may still be in use; it gets unmapped once garbage collected.
+	 */
+	private Bytes.Mapped mapped(int index, int amount) {
+		checkRange(index, amount);
+		if (!readable(index, amount)) {
+			if (!isWritable()) {
+				throw new UnsupportedOperationException("read only");
+			}
+			long length = pageAligned(Math.max((long) index + amount, (long) region.length() << 1));
+			try {
+				Bytes.Mapped grown = Bytes.map(channel, mode, position, (int) length);
+				region.force();
+				region = grown;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return region;
+	}
+
+	@Override
+	public Bytes put(int index, byte b) {
+		writable(index, 1).put(index, b);
+		return this;
+	}
+
+	@Override
+	public Bytes put(int index, byte[] src, int offset, int length) {
+		writable(index, length).put(index, src, offset, length);
+		return this;
+	}
+
+	@Override
+	public int put(int index, int amount, ByteBuffer src) {
+		return writable(index, Math.min(amount, src.remaining())).put(index, amount, src);
+	}
+
+	@Override
+	public Bytes putInt(int index, int value) {
+		order().putInt(writable(index, Integer.BYTES), index, value);
+		return this;
+	}
+
+	@Override
+	public Bytes putLong(int index, long value) {
+		order().putLong(writable(index, Long.BYTES), index, value);
+		return this;
+	}
+
+	@Override
+	public Bytes putShort(int index, short value) {
+		order().putShort(writable(index, Short.BYTES), index, value);
+		return this;
+	}
+
+	private boolean readable(int index, int amount) {
+		return index >= 0 && amount >= 0 && amount <= region.length() - index;
+	}
+
+	@Override
+	public int readFrom(int index, int amount, ReadableByteChannel channel) throws IOException {
+		int total = 0;
+		while (amount > 0) {
+			Bytes.Mapped mapped = mapped(index, Math.min(amount, PAGE_SIZE));
+			int read = mapped.readFrom(index, Math.min(amount, mapped.length() - index), channel);
+			if (read <= 0) {
+				break;
+			}
+			written = Math.max(written, index + read);
+			total += read;
+			index += read;
+			amount -= read;
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the mapped region for writing the given range, which raises the bytes written up to its end.
+	 */
+	private Bytes.Mapped writable(int index, int amount) {
+		Bytes.Mapped mapped = mapped(index, amount);
+		written = Math.max(written, index + amount);
+		return mapped;
+	}
+
+	/**
+	 * Returns the end of the data, that is the length of the file when mapped plus the bytes written beyond it since.
+	 */
+	public int written() {
+		return written;
+	}
+
+	@Override
+	public int writeTo(int index, int amount, WritableByteChannel channel) throws IOException {
+		return readable(index, amount) ? region.writeTo(index, amount, channel) : super.writeTo(index, amount, channel);
+	}
+}
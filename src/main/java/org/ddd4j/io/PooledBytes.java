@@ -1,31 +1,118 @@
 package org.ddd4j.io;
 
-import java.util.Map.Entry;
-import java.util.NavigableMap;
-import java.util.TreeMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Arrays;
 
 import org.ddd4j.util.Require;
 import org.ddd4j.util.collection.Cache;
 
 public class PooledBytes<B extends Bytes> extends Bytes {
 
+	private static final int INITIAL_SEGMENTS = 4;
+
 	private final Cache.Pool<B> pool;
-	private final NavigableMap<Integer, B> bytes;
+	private B[] segments;
+	private int count;
+	private int shift;
+	private int mask;
 
+	@SuppressWarnings("unchecked")
 	public PooledBytes(Cache.Pool<B> pool) {
 		this.pool = Require.nonNull(pool);
-		this.bytes = new TreeMap<>();
+		this.segments = (B[]) new Bytes[INITIAL_SEGMENTS];
+		this.count = 0;
+		this.shift = -1;
+		this.mask = 0;
+	}
+
+	private B acquireSegment() {
+		B segment = pool.acquire();
+		if (shift < 0) {
+			int segmentSize = Integer.highestOneBit(segment.length());
+			Require.that(segmentSize > 0);
+			shift = Integer.numberOfTrailingZeros(segmentSize);
+			mask = segmentSize - 1;
+		} else {
+			Require.that(segment.length() > mask);
+		}
+		return segment;
 	}
 
 	@Override
 	public void close() {
-		bytes.values().forEach(pool::release);
-		bytes.clear();
+		for (int i = 0; i < count; i++) {
+			pool.release(segments[i]);
+			segments[i] = null;
+		}
+		count = 0;
 	}
 
 	@Override
 	public byte get(int index) {
-		return partition(index, false).get(index);
+		Bytes segment = segment(index, false);
+		return segment != null ? segment.get(index & mask) : 0;
+	}
+
+	@Override
+	public Bytes get(int index, byte[] dst, int offset, int length) {
+		checkRange(index, length);
+		while (length > 0) {
+			int amount = segmentRemaining(index, length);
+			Bytes segment = segment(index, false);
+			if (segment != null) {
+				segment.get(index & mask, dst, offset, amount);
+			} else {
+				Arrays.fill(dst, offset, offset + amount, (byte) 0);
+			}
+			index += amount;
+			offset += amount;
+			length -= amount;
+		}
+		return this;
+	}
+
+	@Override
+	public Bytes get(int index, Bytes dst, int dstIndex, int length) {
+		checkRange(index, length);
+		while (length > 0) {
+			int amount = segmentRemaining(index, length);
+			Bytes segment = segment(index, false);
+			(segment != null ? segment : Bytes.NULL).get(index & mask, dst, dstIndex, amount);
+			index += amount;
+			dstIndex += amount;
+			length -= amount;
+		}
+		return this;
+	}
+
+	@Override
+	public int get(int index, int amount, ByteBuffer dst) {
+		amount = Math.min(amount, dst.remaining());
+		get(index, Bytes.wrap(dst), 0, amount);
+		dst.position(dst.position() + amount);
+		return amount;
+	}
+
+	@Override
+	public int getInt(int index) {
+		Bytes segment = word(index, Integer.BYTES, false);
+		return segment != null ? order().getInt(segment, index & mask) : super.getInt(index);
+	}
+
+	@Override
+	public long getLong(int index) {
+		Bytes segment = word(index, Long.BYTES, false);
+		return segment != null ? order().getLong(segment, index & mask) : super.getLong(index);
+	}
+
+	@Override
+	public short getShort(int index) {
+		Bytes segment = word(index, Short.BYTES, false);
+		return segment != null ? order().getShort(segment, index & mask) : super.getShort(index);
 	}
 
 	@Override
@@ -33,23 +120,144 @@ public class PooledBytes<B extends Bytes> extends Bytes {
 		return Integer.MAX_VALUE;
 	}
 
-	private Bytes partition(int index, boolean create) {
-		Entry<Integer, B> entry = null;
-		if (create) {
-			while ((entry = bytes.floorEntry(index)) == null) {
-				Integer nextIndex = bytes.isEmpty() ? 0 : bytes.lastKey() + bytes.lastEntry().getValue().length();
-				bytes.put(nextIndex, pool.acquire());
-			}
-			return entry.getValue();
+	@Override
+	public Bytes put(int index, byte b) {
+		segment(index, true).put(index & mask, b);
+		return this;
+	}
+
+	@Override
+	public Bytes put(int index, byte[] src, int offset, int length) {
+		checkRange(index, length);
+		while (length > 0) {
+			Bytes segment = segment(index, true);
+			int amount = segmentRemaining(index, length);
+			segment.put(index & mask, src, offset, amount);
+			index += amount;
+			offset += amount;
+			length -= amount;
+		}
+		return this;
+	}
+
+	@Override
+	public int put(int index, int amount, ByteBuffer src) {
+		amount = Math.min(amount, src.remaining());
+		int remaining = amount;
+		while (remaining > 0) {
+			Bytes segment = segment(index, true);
+			int written = segment.put(index & mask, segmentRemaining(index, remaining), src);
+			index += written;
+			remaining -= written;
+		}
+		return amount;
+	}
+
+	@Override
+	public Bytes putInt(int index, int value) {
+		Bytes segment = word(index, Integer.BYTES, true);
+		if (segment != null) {
+			order().putInt(segment, index & mask, value);
+			return this;
 		} else {
-			entry = bytes.floorEntry(index);
-			return entry != null ? entry.getValue() : Bytes.NULL;
+			return super.putInt(index, value);
 		}
 	}
 
 	@Override
-	public Bytes put(int index, byte b) {
-		partition(index, true).put(index, b);
-		return this;
+	public Bytes putLong(int index, long value) {
+		Bytes segment = word(index, Long.BYTES, true);
+		if (segment != null) {
+			order().putLong(segment, index & mask, value);
+			return this;
+		} else {
+			return super.putLong(index, value);
+		}
+	}
+
+	@Override
+	public Bytes putShort(int index, short value) {
+		Bytes segment = word(index, Short.BYTES, true);
+		if (segment != null) {
+			order().putShort(segment, index & mask, value);
+			return this;
+		} else {
+			return super.putShort(index, value);
+		}
+	}
+
+	@Override
+	public int readFrom(int index, int amount, ReadableByteChannel channel) throws IOException {
+		int total = 0;
+		while (amount > 0) {
+			Bytes segment = segment(index, true);
+			int read = segment.readFrom(index & mask, segmentRemaining(index, amount), channel);
+			if (read <= 0) {
+				break;
+			}
+			total += read;
+			index += read;
+			amount -= read;
+		}
+		return total;
+	}
+
+	private Bytes segment(int index, boolean create) {
+		if (shift < 0) {
+			if (!create) {
+				return null;
+			}
+			segments[count++] = acquireSegment();
+		}
+		int segment = index >>> shift;
+		if (segment >= count && create) {
+			if (segment >= segments.length) {
+				segments = Arrays.copyOf(segments, Math.max(segment + 1, segments.length << 1));
+			}
+			while (count <= segment) {
+				segments[count++] = acquireSegment();
+			}
+		}
+		return segment < count ? segments[segment] : null;
+	}
+
+	private int segmentRemaining(int index, int length) {
+		return shift < 0 ? length : Math.min(length, mask + 1 - (index & mask));
+	}
+
+	private Bytes word(int index, int width, boolean create) {
+		Bytes segment = segment(index, create);
+		return segment != null && (index & mask) <= mask + 1 - width ? segment : null;
+	}
+
+	@Override
+	public int writeTo(int index, int amount, WritableByteChannel channel) throws IOException {
+		if (!(channel instanceof GatheringByteChannel) || shift < 0) {
+			return super.writeTo(index, amount, channel);
+		}
+
+		long end = Math.min((long) index + amount, (long) count << shift);
+		if (end <= index) {
+			return super.writeTo(index, amount, channel);
+		}
+		int first = index >>> shift;
+		int last = (int) ((end - 1) >>> shift);
+		ByteBuffer[] buffers = new ByteBuffer[last - first + 1];
+		for (int i = first; i <= last; i++) {
+			long start = (long) i << shift;
+			int from = (int) Math.max(index - start, 0);
+			int to = (int) Math.min(end - start, mask + 1);
+			buffers[i - first] = segments[i].asByteBuffer(from, to - from);
+		}
+
+		GatheringByteChannel gathering = (GatheringByteChannel) channel;
+		int total = 0;
+		while (buffers[buffers.length - 1].hasRemaining()) {
+			total += (int) gathering.write(buffers);
+		}
+		if (total < amount) {
+			total += super.writeTo(index + total, amount - total, channel);
+		}
+		return total;
 	}
-}
\ No newline at end of file
+}
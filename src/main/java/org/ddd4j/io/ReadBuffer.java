@@ -16,6 +16,10 @@ public interface ReadBuffer extends RelativeBuffer {
 		return this;
 	}
 
+	default byte[] asByteArray() {
+		return backing().asByteArray(position(), remaining());
+	}
+
 	default Bytes asBytes() {
 		return backing().sliceBy(position(), remaining());
 	}
@@ -127,19 +131,30 @@ public interface ReadBuffer extends RelativeBuffer {
 	}
 
 	default String getUTF() {
-		return getUTFAsBuilder().toString();
+		return backing().getUTF(advancePosition(2 + backing().getUnsignedShort(position())));
+	}
+
+	default String getUTF(StringInterner interner) {
+		int length = backing().getUnsignedShort(position());
+		return interner.intern(backing(), advancePosition(2 + length) + 2, length);
 	}
 
 	default StringBuilder getUTFAsBuilder() {
-		StringBuilder builder = backing().getUTFAsBuilder(position());
-		advancePosition(Bytes.utfLength(builder));
-		return builder;
+		return new StringBuilder(getUTF());
+	}
+
+	default String getUTF8(int length) {
+		return backing().getUTF8(advancePosition(length), length);
 	}
 
 	default int hash() {
 		return backing().hash(position(), remaining());
 	}
 
+	default long hash64() {
+		return backing().hash64(position(), remaining());
+	}
+
 	@Override
 	ReadBuffer limit(int newLimit);
 
@@ -5,7 +5,7 @@ public interface RelativeBuffer extends AutoCloseable {
 	default int advancePosition(int count) {
 		int oldPosition = position();
 		int newPosition = oldPosition + count;
-		if (newPosition < limit()) {
+		if (newPosition <= limit()) {
 			position(newPosition);
 		} else {
 			throw new IllegalArgumentException();
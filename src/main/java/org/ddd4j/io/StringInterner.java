@@ -0,0 +1,64 @@
+package org.ddd4j.io;
+
+import org.ddd4j.util.Require;
+
+/**
+ * Direct mapped cache of decoded strings, keyed by their encoded bytes. Meant for small, highly repetitive strings like
+ * header or channel names. Colliding entries simply replace each other.
+ */
+public class StringInterner {
+
+	private static class Entry {
+
+		private final byte[] encoded;
+		private final String value;
+
+		Entry(byte[] encoded, String value) {
+			this.encoded = encoded;
+			this.value = value;
+		}
+
+		boolean matches(Bytes bytes, int index, int length) {
+			if (encoded.length != length) {
+				return false;
+			}
+			for (int i = 0; i < length; i++) {
+				if (encoded[i] != bytes.get(index + i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	public static final StringInterner DEFAULT = new StringInterner(1024, 64);
+
+	private final Entry[] entries;
+	private final int maxLength;
+
+	public StringInterner(int capacity, int maxLength) {
+		Require.that(capacity > 0 && maxLength >= 0);
+		this.entries = new Entry[Integer.highestOneBit(capacity)];
+		this.maxLength = maxLength;
+	}
+
+	/**
+	 * Returns the string decoded from the given UTF-8 encoded range, which is a cached instance if the same bytes have
+	 * been interned before.
+	 */
+	public String intern(Bytes bytes, int index, int length) {
+		if (length > maxLength) {
+			return bytes.decode(index, length);
+		}
+
+		int slot = bytes.hash(index, length) & (entries.length - 1);
+		Entry entry = entries[slot];
+		if (entry == null || !entry.matches(bytes, index, length)) {
+			byte[] encoded = new byte[length];
+			bytes.get(index, encoded);
+			entry = new Entry(encoded, Bytes.wrap(encoded).decode(0, length));
+			entries[slot] = entry;
+		}
+		return entry.value;
+	}
+}
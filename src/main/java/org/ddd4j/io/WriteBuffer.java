@@ -138,8 +138,24 @@ public interface WriteBuffer extends RelativeBuffer {
 		return putUnsignedByte((int) value & 0x7F);
 	}
 
+	/**
+	 * Encodes the chars in a single pass up to the limit and advances the position only if all of them fit.
+	 */
 	default WriteBuffer putUTF(CharSequence chars) {
-		backing().putUTF(advancePosition(Bytes.utfLength(chars)), chars);
+		int encoded = backing().encodeUTF(position(), limit(), chars);
+		if (encoded < 0) {
+			throw new IllegalArgumentException();
+		}
+		advancePosition(encoded);
+		return this;
+	}
+
+	default WriteBuffer putUTF8(CharSequence chars) {
+		int encoded = backing().encodeUTF8(position(), limit(), chars);
+		if (encoded < 0) {
+			throw new IllegalArgumentException();
+		}
+		advancePosition(encoded);
 		return this;
 	}
 
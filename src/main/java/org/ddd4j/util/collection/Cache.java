@@ -1,18 +1,24 @@
 package org.ddd4j.util.collection;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
-import java.util.Objects;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
@@ -25,10 +31,13 @@ import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 
@@ -38,9 +47,13 @@ import org.ddd4j.util.Throwing.Producer;
 import org.ddd4j.util.Throwing.TConsumer;
 import org.ddd4j.util.collection.Cache.Access.Exclusive;
 import org.ddd4j.util.collection.Cache.Access.Shared;
+import org.ddd4j.util.collection.Cache.Access.SizeClassed;
+import org.ddd4j.util.collection.Cache.Access.Striped;
 import org.ddd4j.util.collection.Cache.Decorating.Blocking;
 import org.ddd4j.util.collection.Cache.Decorating.Evicting;
+import org.ddd4j.util.collection.Cache.Decorating.Expiring;
 import org.ddd4j.util.collection.Cache.Decorating.Listening;
+import org.ddd4j.util.collection.Cache.Decorating.Recording;
 import org.ddd4j.util.collection.Cache.Decorating.Retrying;
 import org.ddd4j.value.config.ConfKey;
 
@@ -50,24 +63,34 @@ public interface Cache<K, V> {
 
 		public static class Exclusive<K, V> extends Access<K, V> {
 
-			private final ConcurrentNavigableMap<K, Queue<V>> pool;
+			/**
+			 * Queue of released values, which is flagged once removed from the pool, so that values released into it
+			 * concurrently get re-released.
+			 */
+			private static class Released<V> extends ConcurrentLinkedQueue<V> {
+
+				private static final long serialVersionUID = 1L;
+
+				private volatile boolean removed;
+			}
+
+			private final ConcurrentNavigableMap<K, Released<V>> pool;
 			private final Function<? super V, ? extends K> keyedBy;
-			private final Queue<Queue<V>> unusedQueues;
 
 			Exclusive(Comparator<? super K> comparator, Function<? super V, ? extends K> keyedBy) {
 				this.pool = new ConcurrentSkipListMap<>(comparator);
 				this.keyedBy = Require.nonNull(keyedBy);
-				this.unusedQueues = new ArrayDeque<>();
 			}
 
 			@Override
 			V acquire(K key, Producer<Entry<K, V>> factory, long timeoutInMillis) {
 				V value = null;
-				Queue<V> queue = pool.get(key);
+				Released<V> queue = pool.get(key);
 				if (queue != null) {
 					value = queue.poll();
 					if (queue.isEmpty() && pool.remove(key, queue)) {
-						unusedQueues.offer(queue);
+						queue.removed = true;
+						reenqueue(queue);
 					}
 				}
 				return value != null ? value : factory.get().getValue();
@@ -78,45 +101,80 @@ public interface Cache<K, V> {
 				return pool.containsKey(key);
 			}
 
-			private Queue<V> enqueue(Queue<V> queue, V value) {
-				if (queue == null) {
-					queue = unusedQueues.poll();
-					if (queue == null) {
-						queue = new ConcurrentLinkedQueue<>();
-					}
-				}
-				queue.offer(value);
-				return queue;
-			}
-
 			@Override
 			boolean evict(K key, V value) {
 				Queue<V> queue = pool.get(key);
 				return queue != null && queue.remove(value);
 			}
 
+			@Override
+			boolean holds(K key, V value) {
+				Queue<V> queue = pool.get(key);
+				return queue != null && queue.contains(value);
+			}
+
 			@Override
 			void evictAll(K key, Disposer<? super K, ? super V> disposer) {
-				Queue<V> queue = pool.remove(key);
+				Released<V> queue = pool.remove(key);
 				if (queue != null) {
-					Exception[] exceptions = queue.stream()
-							.map(v -> disposer.disposeAndReturn(key, v))
-							.filter(Objects::nonNull)
-							.toArray(Exception[]::new);
-					queue.clear();
-					unusedQueues.offer(queue);
-					Arrays.stream(exceptions).forEach(Throwing::unchecked);
+					queue.removed = true;
+					List<Exception> exceptions = new ArrayList<>();
+					V value;
+					while ((value = queue.poll()) != null) {
+						Exception exception = disposer.disposeAndReturn(key, value);
+						if (exception != null) {
+							exceptions.add(exception);
+						}
+					}
+					exceptions.forEach(Throwing::unchecked);
 				}
 			}
 
+			@Override
+			K keyOf(V value) {
+				return keyedBy.apply(value);
+			}
+
 			@Override
 			NavigableSet<K> keys() {
 				return pool.keySet();
 			}
 
+			/**
+			 * Re-releases values, which were released into a queue after it got removed from the pool.
+			 */
+			private void reenqueue(Released<V> removed) {
+				V stray;
+				while ((stray = removed.poll()) != null) {
+					release(stray);
+				}
+			}
+
+			/**
+			 * Enqueues without {@link ConcurrentMap#compute}, as the skip list may apply the function more than once.
+			 * Instead, an acquisition flags the queue after removing it and drains it afterwards, while a release checks the
+			 * flag after offering. Either of both therefore sees a value released concurrently to the removal.
+			 */
 			@Override
 			void release(V value) {
-				pool.compute(keyedBy.apply(value), (k, q) -> enqueue(q, value));
+				K key = keyedBy.apply(value);
+				Released<V> queue = pool.get(key);
+				if (queue == null) {
+					Released<V> created = new Released<>();
+					queue = pool.putIfAbsent(key, created);
+					if (queue == null) {
+						queue = created;
+					}
+				}
+				queue.offer(value);
+				if (queue.removed) {
+					reenqueue(queue);
+				}
+			}
+
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Exclusive<>(pool.comparator(), keyedBy);
 			}
 		}
 
@@ -166,6 +224,12 @@ public interface Cache<K, V> {
 				return future != null ? singletons.remove(key, future) : false;
 			}
 
+			@Override
+			boolean holds(K key, V value) {
+				Future<? extends V> future = futures.get(value);
+				return future != null && singletons.get(key) == future;
+			}
+
 			@Override
 			void evictAll(K key, Disposer<? super K, ? super V> disposer) {
 				try {
@@ -187,6 +251,343 @@ public interface Cache<K, V> {
 			@Override
 			void release(V value) {
 			}
+
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Shared<>(singletons.comparator());
+			}
+
+			@Override
+			boolean sharesValues() {
+				return true;
+			}
+		}
+
+		/**
+		 * Pools values in power of two size classes, each with its own lock-free free list. Keys denote requested sizes,
+		 * which get rounded up to the next size class. Released values are only retained while the total size of all
+		 * retained values stays within the budget.
+		 */
+		public static class SizeClassed<V> extends Access<Integer, V> {
+
+			public enum Oversize {
+				ALLOCATE, REJECT;
+			}
+
+			public static class SizeClass {
+
+				private final int size;
+				private final Queue<Object> free;
+				private final LongAdder hits;
+				private final LongAdder misses;
+				private final LongAdder released;
+				private final LongAdder dropped;
+
+				SizeClass(int size) {
+					this.size = size;
+					this.free = new ConcurrentLinkedQueue<>();
+					this.hits = new LongAdder();
+					this.misses = new LongAdder();
+					this.released = new LongAdder();
+					this.dropped = new LongAdder();
+				}
+
+				public int available() {
+					return free.size();
+				}
+
+				public long dropped() {
+					return dropped.sum();
+				}
+
+				public long hits() {
+					return hits.sum();
+				}
+
+				public long misses() {
+					return misses.sum();
+				}
+
+				public long released() {
+					return released.sum();
+				}
+
+				public int size() {
+					return size;
+				}
+			}
+
+			private static int shiftOf(int size) {
+				return size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+			}
+
+			private final ToIntFunction<? super V> sizeOf;
+			private final int minShift;
+			private final SizeClass[] classes;
+			private final NavigableSet<Integer> keys;
+			private final long budget;
+			private final AtomicLong retained;
+			private final Oversize oversize;
+			private Stats stats;
+
+			SizeClassed(ToIntFunction<? super V> sizeOf, int minSize, int maxSize, long budget, Oversize oversize) {
+				Require.that(minSize > 0 && maxSize >= minSize && budget >= 0);
+				this.sizeOf = Require.nonNull(sizeOf);
+				this.minShift = shiftOf(minSize);
+				this.classes = new SizeClass[shiftOf(maxSize) - minShift + 1];
+				NavigableSet<Integer> sizes = new TreeSet<>();
+				for (int i = 0; i < classes.length; i++) {
+					classes[i] = new SizeClass(1 << (minShift + i));
+					sizes.add(classes[i].size);
+				}
+				this.keys = Collections.unmodifiableNavigableSet(sizes);
+				this.budget = budget;
+				this.retained = new AtomicLong(0);
+				this.oversize = Require.nonNull(oversize);
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			V acquire(Integer key, Producer<Entry<Integer, V>> factory, long timeoutInMillis) {
+				SizeClass sizeClass = sizeClass(key);
+				if (sizeClass == null) {
+					if (oversize == Oversize.REJECT) {
+						throw new IllegalArgumentException("Size " + key + " exceeds largest size class " + classes[classes.length - 1].size);
+					}
+					return factory.get().getValue();
+				}
+				V value = (V) sizeClass.free.poll();
+				if (value != null) {
+					retained.addAndGet(-sizeClass.size);
+					sizeClass.hits.increment();
+					return value;
+				} else {
+					sizeClass.misses.increment();
+					return factory.get().getValue();
+				}
+			}
+
+			@Override
+			boolean contains(Integer key) {
+				SizeClass sizeClass = sizeClass(key);
+				return sizeClass != null && !sizeClass.free.isEmpty();
+			}
+
+			/**
+			 * Records values not retained on release as evicted due to capacity, as they leave the cache.
+			 */
+			private void drop() {
+				if (stats != null) {
+					stats.recordEviction(Stats.Cause.CAPACITY);
+				}
+			}
+
+			@Override
+			boolean holds(Integer key, V value) {
+				SizeClass sizeClass = sizeClass(key);
+				return sizeClass != null && sizeClass.free.contains(value);
+			}
+
+			@Override
+			boolean evict(Integer key, V value) {
+				SizeClass sizeClass = sizeClass(key);
+				if (sizeClass != null && sizeClass.free.remove(value)) {
+					retained.addAndGet(-sizeClass.size);
+					return true;
+				} else {
+					return false;
+				}
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			void evictAll(Integer key, Disposer<? super Integer, ? super V> disposer) {
+				SizeClass sizeClass = sizeClass(key);
+				if (sizeClass != null) {
+					Object value;
+					while ((value = sizeClass.free.poll()) != null) {
+						retained.addAndGet(-sizeClass.size);
+						Exception exception = disposer.disposeAndReturn(key, (V) value);
+						if (exception != null) {
+							Throwing.unchecked(exception);
+						}
+					}
+				}
+			}
+
+			@Override
+			Integer keyOf(V value) {
+				return sizeOf.applyAsInt(value);
+			}
+
+			@Override
+			NavigableSet<Integer> keys() {
+				return keys;
+			}
+
+			@Override
+			void recordTo(Stats stats) {
+				this.stats = stats;
+			}
+
+			/**
+			 * Retains the value in its size class, unless its size does not match a class exactly or retaining it would
+			 * exceed the budget.
+			 */
+			@Override
+			void release(V value) {
+				int size = sizeOf.applyAsInt(value);
+				SizeClass sizeClass = sizeClass(size);
+				if (sizeClass == null || sizeClass.size != size) {
+					drop();
+					return;
+				}
+				long current;
+				do {
+					current = retained.get();
+					if (current + size > budget) {
+						sizeClass.dropped.increment();
+						drop();
+						return;
+					}
+				} while (!retained.compareAndSet(current, current + size));
+				sizeClass.released.increment();
+				sizeClass.free.offer(value);
+			}
+
+			public long retainedSize() {
+				return retained.get();
+			}
+
+			/**
+			 * Rejects striping, which spreads keys by hash. Size classes are powers of two, so most of them would share one
+			 * stripe, confining them to a fraction of the budget. Size classes do not contend on a lock anyway.
+			 */
+			@Override
+			Access<Integer, V> segment(int stripes) {
+				throw new IllegalArgumentException("Size classes cannot be striped, their keys do not spread over stripes");
+			}
+
+			private SizeClass sizeClass(int size) {
+				int index = Math.max(shiftOf(size) - minShift, 0);
+				return index < classes.length ? classes[index] : null;
+			}
+
+			public List<SizeClass> sizeClasses() {
+				return Collections.unmodifiableList(Arrays.asList(classes));
+			}
+		}
+
+		/**
+		 * Spreads keys by their hash code over independent segments, each with its own maps and eviction state, so that
+		 * acquisitions of different keys rarely contend. Capacities are divided evenly among the segments. Keys are only
+		 * looked up within their segment, so striping fits lookups with equal keys.
+		 */
+		public static class Striped<K, V> extends Access<K, V> {
+
+			private final Access<K, V> template;
+			private final List<Access<K, V>> segments;
+
+			Striped(Access<K, V> template, int stripes) {
+				Require.that(stripes > 0);
+				this.template = Require.nonNull(template);
+				this.segments = new ArrayList<>(stripes);
+				for (int i = 0; i < stripes; i++) {
+					segments.add(template.segment(stripes));
+				}
+			}
+
+			@Override
+			V acquire(K key, Producer<Entry<K, V>> factory, long timeoutInMillis) {
+				return segmentOf(key).acquire(key, factory, timeoutInMillis);
+			}
+
+			@Override
+			boolean contains(K key) {
+				return segmentOf(key).contains(key);
+			}
+
+			@Override
+			boolean evict(K key, V value) {
+				return segmentOf(key).evict(key, value);
+			}
+
+			@Override
+			boolean holds(K key, V value) {
+				return segmentOf(key).holds(key, value);
+			}
+
+			@Override
+			void disposeWith(Disposer<? super K, ? super V> disposer) {
+				template.disposeWith(disposer);
+				segments.forEach(s -> s.disposeWith(disposer));
+			}
+
+			@Override
+			void evictAll(K key, Disposer<? super K, ? super V> disposer) {
+				segmentOf(key).evictAll(key, disposer);
+			}
+
+			@Override
+			void expire() {
+				segments.forEach(Access::expire);
+			}
+
+			@Override
+			K keyOf(V value) {
+				return template.keyOf(value);
+			}
+
+			/**
+			 * Returns a snapshot of the keys of all segments.
+			 */
+			@Override
+			NavigableSet<K> keys() {
+				NavigableSet<K> keys = new TreeSet<>(segments.get(0).keys().comparator());
+				segments.forEach(s -> keys.addAll(s.keys()));
+				return keys;
+			}
+
+			@Override
+			NavigableSet<K> keys(K key) {
+				return segmentOf(key).keys(key);
+			}
+
+			/**
+			 * Releases the value into the segment of its key. Shared values have no key and need no release.
+			 */
+			@Override
+			void release(V value) {
+				K key = keyOf(value);
+				if (key != null) {
+					segmentOf(key).release(value);
+				}
+			}
+
+			@Override
+			void recordTo(Stats stats) {
+				template.recordTo(stats);
+				segments.forEach(s -> s.recordTo(stats));
+			}
+
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Striped<>(template.segment(stripes), segments.size());
+			}
+
+			private Access<K, V> segmentOf(K key) {
+				int hash = key.hashCode();
+				return segments.get(Math.floorMod(hash ^ (hash >>> 16), segments.size()));
+			}
+
+			@Override
+			boolean sharesValues() {
+				return template.sharesValues();
+			}
+
+			public int stripes() {
+				return segments.size();
+			}
 		}
 
 		private static class Wrapped<K, V, T> extends Access<K, T> {
@@ -211,25 +612,70 @@ public interface Cache<K, V> {
 				return delegate.contains(key);
 			}
 
+			@Override
+			void disposeWith(Disposer<? super K, ? super T> disposer) {
+				delegate.disposeWith(disposer.with(wrapper));
+			}
+
 			@Override
 			boolean evict(K key, T value) {
 				return delegate.evict(key, unwrapper.apply(value));
 			}
 
+			@Override
+			boolean holds(K key, T value) {
+				return delegate.holds(key, unwrapper.apply(value));
+			}
+
 			@Override
 			void evictAll(K key, Disposer<? super K, ? super T> disposer) {
 				delegate.evictAll(key, disposer.with(wrapper));
 			}
 
+			@Override
+			void expire() {
+				delegate.expire();
+			}
+
+			@Override
+			K keyOf(T value) {
+				return delegate.keyOf(unwrapper.apply(value));
+			}
+
 			@Override
 			NavigableSet<K> keys() {
 				return delegate.keys();
 			}
 
+			@Override
+			NavigableSet<K> keys(K key) {
+				return delegate.keys(key);
+			}
+
+			@Override
+			void recordTo(Stats stats) {
+				delegate.recordTo(stats);
+			}
+
 			@Override
 			void release(T value) {
 				delegate.release(unwrapper.apply(value));
 			}
+
+			@Override
+			Access<K, T> segment(int stripes) {
+				return new Wrapped<>(delegate.segment(stripes), wrapper, unwrapper);
+			}
+
+			@Override
+			boolean sharesValues() {
+				return delegate.sharesValues();
+			}
+		}
+
+		static long perStripe(long capacity, int stripes) {
+			return capacity == Integer.MAX_VALUE || capacity == Long.MAX_VALUE ? capacity
+					: capacity / stripes + (capacity % stripes == 0 ? 0 : 1);
 		}
 
 		abstract V acquire(K key, Producer<Entry<K, V>> factory, long timeoutInMillis);
@@ -240,20 +686,56 @@ public interface Cache<K, V> {
 
 		abstract boolean contains(K key);
 
+		/**
+		 * Lets this access and its decorators dispose the values they evict on their own, such as over capacity or when
+		 * expired, with the given {@link Disposer}.
+		 */
+		void disposeWith(Disposer<? super K, ? super V> disposer) {
+		}
+
 		public Evicting<K, V> evict() {
 			return evict(EvictStrategy.ANY);
 		}
 
 		public Evicting<K, V> evict(EvictStrategy strategy) {
-			return new Evicting<>(this, strategy, 0, Integer.MAX_VALUE, Long.MAX_VALUE);
+			return new Evicting<>(this, strategy, 0, Long.MAX_VALUE, Long.MAX_VALUE, null, null);
 		}
 
 		abstract boolean evict(K key, V value);
 
 		abstract void evictAll(K key, Disposer<? super K, ? super V> disposer);
 
+		/**
+		 * Expires all entries due, if time based expiry is configured.
+		 */
+		void expire() {
+		}
+
+		public Expiring<K, V> expireAfter(Expiry<? super K, ? super V> expiry) {
+			return new Expiring<>(this, expiry, Expiring.DEFAULT_TICK_IN_MILLIS, null);
+		}
+
+		/**
+		 * Returns the key of an exclusively used value, or {@code null} if values are shared.
+		 */
+		K keyOf(V value) {
+			return null;
+		}
+
+		/**
+		 * Whether the given value is still cached for the key and not in use.
+		 */
+		abstract boolean holds(K key, V value);
+
 		abstract NavigableSet<K> keys();
 
+		/**
+		 * Returns the keys, among which the given key is looked up.
+		 */
+		NavigableSet<K> keys(K key) {
+			return keys();
+		}
+
 		public Pool<V> lookupRandomValues(Producer<? extends V> factory) {
 			Require.nonNull(factory);
 			return lookupValues(KeyLookup.RANDOM).withFactory(nil -> factory.get()).pooledBy(null);
@@ -275,12 +757,39 @@ public interface Cache<K, V> {
 			return new Listening<>(this);
 		}
 
+		/**
+		 * Records the statistics of this access and of all decorators below to the given {@link Stats}. Should be the
+		 * outermost decorator, as evictions of decorators above would count as explicit ones.
+		 */
+		public Recording<K, V> recordStats(Stats stats) {
+			recordTo(Require.nonNull(stats));
+			return new Recording<>(this, stats);
+		}
+
+		/**
+		 * Lets this access and its decorators record to the given {@link Stats}, keeping their state.
+		 */
+		void recordTo(Stats stats) {
+		}
+
 		abstract void release(V value);
 
 		public Retrying<K, V> retry() {
 			return new Retrying<>(this, 0, Long.MAX_VALUE);
 		}
 
+		/**
+		 * Returns an empty access configured alike, with its capacities divided among the given number of stripes.
+		 */
+		abstract Access<K, V> segment(int stripes);
+
+		/**
+		 * Whether acquired values are shared between callers, which therefore never release them.
+		 */
+		boolean sharesValues() {
+			return false;
+		}
+
 		<T> Access<K, T> wrapEntries(Function<? super V, ? extends T> wrapper, Function<? super T, ? extends V> unwrapper) {
 			return new Wrapped<>(this, wrapper, unwrapper);
 		}
@@ -306,14 +815,74 @@ public interface Cache<K, V> {
 		}
 
 		public V acquire(K key, Factory<? super K, ? extends V> factory, long timeoutInMillis) {
-			K effectiveKey = keyLookup.find(delegate.keys(), key).orElse(keyAdapter.apply(key));
-			return delegate.acquire(effectiveKey, () -> new Entry<>(key, factory.create(key)), timeoutInMillis);
+			K effectiveKey = effectiveKey(key);
+			return delegate.acquire(effectiveKey, () -> new Entry<>(effectiveKey, factory.create(effectiveKey)), timeoutInMillis);
+		}
+
+		public Map<K, V> acquireAll(Collection<? extends K> keys, BulkFactory<? super K, ? extends V> factory) {
+			return acquireAll(keys, factory, Aside::ignore, Long.MAX_VALUE);
+		}
+
+		public Map<K, V> acquireAll(Collection<? extends K> keys, BulkFactory<? super K, ? extends V> factory, long timeoutInMillis) {
+			return acquireAll(keys, factory, Aside::ignore, timeoutInMillis);
+		}
+
+		/**
+		 * Acquires the values of all given keys, creating the missing ones with a single call of the factory. Created
+		 * values, which are not needed anymore due to concurrent acquisitions, are never cached and get disposed.
+		 */
+		public Map<K, V> acquireAll(Collection<? extends K> keys, BulkFactory<? super K, ? extends V> factory,
+				Disposer<? super K, ? super V> disposer, long timeoutInMillis) {
+			Require.nonNull(disposer);
+			Map<K, K> effectiveKeys = new LinkedHashMap<>();
+			Set<K> missing = new HashSet<>();
+			for (K key : keys) {
+				K effectiveKey = effectiveKey(key);
+				effectiveKeys.put(key, effectiveKey);
+				if (!delegate.contains(effectiveKey)) {
+					missing.add(effectiveKey);
+				}
+			}
+			Map<K, V> created = new HashMap<>();
+			if (!missing.isEmpty()) {
+				try {
+					Map<? super K, ? extends V> all = factory.createAll(missing);
+					missing.forEach(k -> created.computeIfAbsent(k, all::get));
+				} catch (Exception e) {
+					Throwing.unchecked(e);
+				}
+			}
+			Map<K, V> values = new LinkedHashMap<>();
+			effectiveKeys.forEach((key, effectiveKey) -> {
+				V value = delegate.acquire(effectiveKey, () -> {
+					V v = created.remove(effectiveKey);
+					return new Entry<>(effectiveKey, v != null ? v : factory.asFactory().create(effectiveKey));
+				}, timeoutInMillis);
+				values.put(key, value);
+			});
+			List<Exception> exceptions = new ArrayList<>();
+			created.forEach((k, v) -> {
+				Exception exception = disposer.disposeAndReturn(k, v);
+				if (exception != null) {
+					exceptions.add(exception);
+				}
+			});
+			exceptions.forEach(Throwing::unchecked);
+			return values;
 		}
 
 		public boolean contains(K key) {
 			return delegate.contains(key);
 		}
 
+		private K effectiveKey(K key) {
+			return keyLookup.find(delegate.keys(key), key).orElse(keyAdapter.apply(key));
+		}
+
+		boolean evict(K key, V value) {
+			return delegate.evict(key, value);
+		}
+
 		@Override
 		public void evictAll(Disposer<K, V> disposer) {
 			new HashSet<>(delegate.keys()).forEach(k -> delegate.evictAll(k, disposer));
@@ -327,16 +896,30 @@ public interface Cache<K, V> {
 			delegate.evictAll(key, disposer);
 		}
 
+		@Override
+		public void expire() {
+			delegate.expire();
+		}
+
 		public void release(V value) {
 			delegate.release(value);
 		}
 
+		public ReadThrough<K, V> withBulkFactory(BulkFactory<? super K, ? extends V> factory) {
+			return new ReadThrough<>(this, factory.asFactory(), factory, Aside::ignore);
+		}
+
 		public ReadThrough<K, V> withFactory(Factory<? super K, ? extends V> factory) {
-			return new ReadThrough<>(this, factory, Aside::ignore);
+			return new ReadThrough<>(this, factory, factory.asBulkFactory(), Aside::ignore);
 		}
 
+		/**
+		 * Creates missing values with the factory and disposes them, when evicted, with the disposer. It also disposes the
+		 * values, which the decorators below evict on their own.
+		 */
 		public ReadThrough<K, V> withFactory(Factory<? super K, ? extends V> factory, Disposer<? super K, ? super V> disposer) {
-			return new ReadThrough<>(this, factory, disposer);
+			delegate.disposeWith(disposer);
+			return new ReadThrough<>(this, factory, factory.asBulkFactory(), disposer);
 		}
 
 		@Override
@@ -349,15 +932,267 @@ public interface Cache<K, V> {
 		}
 	}
 
+	/**
+	 * Read-through cache which never blocks on loading. Concurrent misses of a key share a single load, failed loads are
+	 * not retained, and values older than the refresh interval are served while being reloaded in the background.
+	 */
+	class AsyncReadThrough<K, V> implements Cache<K, V> {
+
+		public static class Loaded<V> {
+
+			private final CompletableFuture<V> future;
+			private volatile long loadedAt;
+
+			Loaded(CompletableFuture<V> future) {
+				this.future = Require.nonNull(future);
+				this.loadedAt = System.nanoTime();
+				future.thenRun(() -> loadedAt = System.nanoTime());
+			}
+
+			public CompletionStage<V> getValue() {
+				return future;
+			}
+
+			boolean isFailed() {
+				return future.isCompletedExceptionally();
+			}
+
+			boolean isStale(long refreshAfterNanos) {
+				return future.isDone() && !future.isCompletedExceptionally() && System.nanoTime() - loadedAt >= refreshAfterNanos;
+			}
+
+			<X> Loaded<X> map(Function<? super V, ? extends X> mapper) {
+				return new Loaded<>(future.thenApply(mapper));
+			}
+		}
+
+		private static <T> CompletableFuture<T> start(Producer<? extends CompletionStage<? extends T>> loading) {
+			CompletableFuture<T> future = new CompletableFuture<>();
+			try {
+				loading.produce().whenComplete((v, ex) -> {
+					if (ex != null) {
+						future.completeExceptionally(ex);
+					} else {
+						future.complete(v);
+					}
+				});
+			} catch (Exception e) {
+				future.completeExceptionally(e);
+			}
+			return future;
+		}
+
+		private final Aside<K, Loaded<V>> delegate;
+		private final Factory<? super K, ? extends CompletionStage<? extends V>> loader;
+		private final Factory<Set<K>, ? extends CompletionStage<? extends Map<K, ? extends V>>> bulkLoader;
+		private final Disposer<? super K, ? super V> disposer;
+		private final long refreshAfterNanos;
+		private final ConcurrentMap<K, Loaded<V>> refreshes;
+
+		AsyncReadThrough(Aside<K, Loaded<V>> delegate, Factory<? super K, ? extends CompletionStage<? extends V>> loader,
+				Factory<Set<K>, ? extends CompletionStage<? extends Map<K, ? extends V>>> bulkLoader,
+				Disposer<? super K, ? super V> disposer, long refreshAfterNanos) {
+			this.delegate = Require.nonNull(delegate);
+			this.loader = Require.nonNull(loader);
+			this.bulkLoader = bulkLoader;
+			this.disposer = Require.nonNull(disposer);
+			this.refreshAfterNanos = Require.that(refreshAfterNanos, refreshAfterNanos > 0);
+			this.refreshes = new ConcurrentHashMap<>();
+		}
+
+		public CompletionStage<V> acquire(K key) {
+			return acquire(key, this::load);
+		}
+
+		private CompletionStage<V> acquire(K key, Factory<? super K, ? extends Loaded<V>> factory) {
+			Loaded<V> loaded = delegate.acquire(key, factory);
+			if (loaded.isFailed()) {
+				delegate.evict(key, loaded);
+				loaded = delegate.acquire(key, factory);
+			} else if (loaded.isStale(refreshAfterNanos)) {
+				refresh(key, loaded);
+			}
+			return loaded.getValue();
+		}
+
+		/**
+		 * Acquires the values of all given keys. Missing keys are loaded with a single call of the bulk loader, if one has
+		 * been configured.
+		 */
+		public Map<K, CompletionStage<V>> acquireAll(Collection<? extends K> keys) {
+			Map<K, CompletionStage<V>> values = new LinkedHashMap<>();
+			if (bulkLoader == null) {
+				keys.forEach(k -> values.put(k, acquire(k)));
+				return values;
+			}
+
+			Set<K> missing = new HashSet<>();
+			CompletableFuture<Map<K, ? extends V>> batch = new CompletableFuture<>();
+			for (K key : keys) {
+				values.put(key, acquire(key, k -> {
+					Loaded<V> refreshing = refreshes.remove(k);
+					if (refreshing != null) {
+						return refreshing;
+					}
+					missing.add(k);
+					return new Loaded<>(batch.thenApply(m -> {
+						V value = m.get(k);
+						if (value == null) {
+							throw new NoSuchElementException("Nothing loaded for " + k);
+						}
+						return value;
+					}));
+				}));
+			}
+			if (!missing.isEmpty()) {
+				start(() -> bulkLoader.create(missing)).whenComplete((m, ex) -> {
+					if (ex != null) {
+						batch.completeExceptionally(ex);
+					} else {
+						batch.complete(m);
+					}
+				});
+			} else {
+				batch.complete(Collections.emptyMap());
+			}
+			return values;
+		}
+
+		public boolean contains(K key) {
+			return delegate.contains(key);
+		}
+
+		/**
+		 * Evicts all loaded values. Values still loading are disposed as soon as they complete.
+		 */
+		@Override
+		public void evictAll(Disposer<K, V> disposer) {
+			Disposer<K, V> all = disposer.andThen(this.disposer);
+			delegate.evictAll((k, l) -> l.future.thenAccept(v -> all.disposeAndReturn(k, v)));
+		}
+
+		public void evictAll(K key) {
+			delegate.evictAll(key, (k, l) -> l.future.thenAccept(v -> disposer.disposeAndReturn(k, v)));
+		}
+
+		@Override
+		public void expire() {
+			delegate.expire();
+		}
+
+		/**
+		 * Starts loading, unless a refresh of the key is running already, which is then adopted.
+		 */
+		private Loaded<V> load(K key) {
+			Loaded<V> refreshing = refreshes.remove(key);
+			return refreshing != null ? refreshing : new Loaded<>(start(() -> loader.create(key)));
+		}
+
+		/**
+		 * Replaces the value of the given key with an already available one.
+		 */
+		public void put(K key, V value) {
+			Loaded<V> loaded = new Loaded<>(CompletableFuture.completedFuture(value));
+			Loaded<V> current = delegate.acquire(key, k -> loaded);
+			if (current != loaded) {
+				delegate.evict(key, current);
+				delegate.acquire(key, k -> loaded);
+			}
+		}
+
+		/**
+		 * Reloads the given key in the background, while the stale value is still served. The stale value is replaced on
+		 * success and kept on failure.
+		 */
+		private void refresh(K key, Loaded<V> stale) {
+			CompletableFuture<V> future = new CompletableFuture<>();
+			Loaded<V> refreshing = new Loaded<>(future);
+			if (refreshes.putIfAbsent(key, refreshing) == null) {
+				AsyncReadThrough.<V>start(() -> loader.create(key)).whenComplete((v, ex) -> {
+					if (ex != null) {
+						refreshes.remove(key, refreshing);
+						future.completeExceptionally(ex);
+					} else if (refreshes.remove(key, refreshing)) {
+						future.complete(v);
+						delegate.evict(key, stale);
+						delegate.acquire(key, k -> refreshing);
+					} else {
+						future.complete(v);
+					}
+				});
+			}
+		}
+
+		public AsyncReadThrough<K, V> refreshAfterWrite(long duration, TimeUnit unit) {
+			return new AsyncReadThrough<>(delegate, loader, bulkLoader, disposer, unit.toNanos(duration));
+		}
+
+		public AsyncReadThrough<K, V> withBulkLoader(Factory<Set<K>, ? extends CompletionStage<? extends Map<K, ? extends V>>> bulkLoader) {
+			return new AsyncReadThrough<>(delegate, loader, Require.nonNull(bulkLoader), disposer, refreshAfterNanos);
+		}
+
+		@Override
+		public <T> AsyncReadThrough<K, T> wrapEntries(Function<? super V, ? extends T> wrapper, Function<? super T, ? extends V> unwrapper) {
+			Factory<Set<K>, CompletionStage<Map<K, T>>> wrappedBulkLoader = null;
+			if (bulkLoader != null) {
+				wrappedBulkLoader = bulkLoader.andThen(s -> s.thenApply(m -> {
+					Map<K, T> values = new HashMap<>();
+					m.forEach((k, v) -> values.put(k, wrapper.apply(v)));
+					return values;
+				}));
+			}
+			return new AsyncReadThrough<>(delegate.wrapEntries(l -> l.map(wrapper), l -> l.map(unwrapper)),
+					loader.andThen(s -> s.thenApply(wrapper)), wrappedBulkLoader, disposer.with(unwrapper), refreshAfterNanos);
+		}
+	}
+
+	@FunctionalInterface
+	interface BulkFactory<K, V> {
+
+		default <T> BulkFactory<K, T> andThen(Function<? super V, ? extends T> mapper) {
+			return keys -> {
+				Map<K, T> values = new HashMap<>();
+				createAll(keys).forEach((k, v) -> values.put(k, mapper.apply(v)));
+				return values;
+			};
+		}
+
+		default Factory<K, V> asFactory() {
+			return k -> {
+				V value = createAll(Collections.singleton(k)).get(k);
+				if (value == null) {
+					throw new NoSuchElementException("Nothing created for " + k);
+				}
+				return value;
+			};
+		}
+
+		/**
+		 * Creates the values of the given keys. Keys without a value in the returned map are requested again
+		 * individually.
+		 */
+		Map<K, V> createAll(Set<? extends K> keys) throws Exception;
+	}
+
 	abstract class Decorating<K, V> extends Access<K, V> {
 
 		public static class Blocking<K, V> extends Decorating<K, V> {
 
+			private final int capacity;
+			private final boolean fair;
 			private final Semaphore semaphore;
+			private Stats stats;
 
 			public Blocking(Access<K, V> delegate, int capacity, boolean fair) {
+				this(delegate, capacity, fair, null);
+			}
+
+			private Blocking(Access<K, V> delegate, int capacity, boolean fair, Stats stats) {
 				super(delegate);
+				this.capacity = capacity;
+				this.fair = fair;
 				this.semaphore = new Semaphore(capacity, fair);
+				this.stats = stats;
 			}
 
 			@Override
@@ -368,7 +1203,7 @@ public interface Cache<K, V> {
 				do {
 					waitInMillis = timeoutInMillis + started - System.currentTimeMillis();
 					try {
-						if (semaphore.tryAcquire(waitInMillis, TimeUnit.MILLISECONDS)) {
+						if (tryAcquire(waitInMillis)) {
 							waitInMillis = timeoutInMillis + started - System.currentTimeMillis();
 							value = delegate.acquire(key, factory, waitInMillis);
 							if (value == null) {
@@ -397,11 +1232,39 @@ public interface Cache<K, V> {
 				delegate.evictAll(key, disposer.andThen((k, v) -> semaphore.release()));
 			}
 
+			@Override
+			void recordTo(Stats stats) {
+				super.recordTo(stats);
+				this.stats = stats;
+			}
+
 			@Override
 			void release(V value) {
 				delegate.release(value);
 				semaphore.release();
 			}
+
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Blocking<>(delegate.segment(stripes), (int) perStripe(capacity, stripes), fair, stats);
+			}
+
+			/**
+			 * Acquires a permit, recording the time waited if none was available immediately.
+			 */
+			private boolean tryAcquire(long waitInMillis) throws InterruptedException {
+				if (stats == null) {
+					return semaphore.tryAcquire(waitInMillis, TimeUnit.MILLISECONDS);
+				} else if (semaphore.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+				long started = System.nanoTime();
+				try {
+					return semaphore.tryAcquire(waitInMillis, TimeUnit.MILLISECONDS);
+				} finally {
+					stats.recordBlocked(System.nanoTime() - started);
+				}
+			}
 		}
 
 		public static class Evicting<K, V> extends Decorating<K, V> {
@@ -411,15 +1274,20 @@ public interface Cache<K, V> {
 				private final K key;
 				private final V value;
 				private final long created;
-				private long lastAcquired;
-				private long lastReleased;
-				private int counter;
-				private boolean evictable;
+				private final long sequence;
+				private final int weight;
+				private volatile long lastAcquired;
+				private volatile long lastReleased;
+				private volatile int counter;
+				private volatile boolean evictable;
+				private volatile boolean admitted;
 
 				EvictEntry(K key, V value) {
 					this.key = Require.nonNull(key);
 					this.value = Require.nonNull(value);
 					this.created = System.currentTimeMillis();
+					this.sequence = registrations.incrementAndGet();
+					this.weight = weigher != null ? Require.that(weigher.weigh(key, value), w -> w >= 0) : 1;
 					this.lastAcquired = created;
 					this.lastReleased = created;
 					this.counter = 1;
@@ -427,7 +1295,7 @@ public interface Cache<K, V> {
 				}
 
 				V acquire() {
-					evictable = false;
+					evictable = shared;
 					lastAcquired = System.currentTimeMillis();
 					return value;
 				}
@@ -436,14 +1304,45 @@ public interface Cache<K, V> {
 					return created;
 				}
 
-				boolean evict() {
-					return Evicting.this.evict(key, value);
+				boolean evict(Stats.Cause cause) {
+					if (Evicting.this.evict(key, value)) {
+						if (stats != null) {
+							stats.recordEviction(cause);
+						}
+						dispose(key, value);
+						return true;
+					} else {
+						return false;
+					}
+				}
+
+				/**
+				 * Ranks by estimated access frequency first and by last acquisition second.
+				 */
+				long frequency() {
+					return (estimatedFrequency() << 48) | (lastAcquired & 0xFFFFFFFFFFFFL);
+				}
+
+				long estimatedFrequency() {
+					return sketch != null ? sketch.frequency(key.hashCode()) : 0;
+				}
+
+				boolean isAdmitted() {
+					return admitted;
 				}
 
 				boolean isEvictable() {
 					return evictable;
 				}
 
+				/**
+				 * Whether the entry is among the most recent registrations, which are protected from eviction, so that new
+				 * entries get the chance to build up a frequency.
+				 */
+				boolean isInWindow() {
+					return registrations.get() - sequence < window;
+				}
+
 				long lastAcquired() {
 					return lastAcquired;
 				}
@@ -459,97 +1358,476 @@ public interface Cache<K, V> {
 				void release() {
 					evictable = true;
 					lastReleased = System.currentTimeMillis();
+					// racy increments only blur the access statistic
 					counter++;
 					delegate.release(value);
 				}
 			}
 
+			private static final int SAMPLE_SIZE = 5;
+			private static final int SWEEP_SIZE = 64;
+			private static final long SWEEP_INTERVAL_IN_MILLIS = 100;
+			private static final int MAX_WEIGHED_ENTRIES = 1 << 14;
+
+			/**
+			 * Estimates the number of entries fitting the capacity, which is unknown for weighed entries and therefore
+			 * bounded.
+			 */
+			private static int entriesOf(long capacity, Weigher<?, ?> weigher) {
+				return (int) Math.min(capacity, weigher != null ? MAX_WEIGHED_ENTRIES : Integer.MAX_VALUE);
+			}
+
 			private final EvictStrategy strategy;
-			private final int minCapacity;
-			private final int maxCapacity;
+			private final long minCapacity;
+			private final long maxCapacity;
 			private final long threshold;
-			private final Map<V, EvictEntry> entries;
-
-			Evicting(Access<K, V> delegate, EvictStrategy strategy, int minCapacity, int maxCapacity, long threshold) {
+			private final Weigher<? super K, ? super V> weigher;
+			private final IdentityMap<V, EvictEntry> entries;
+			private final AtomicLong weight;
+			private final AtomicLong registrations;
+			private final FrequencySketch sketch;
+			private final int window;
+			private final boolean shared;
+			private final AtomicBoolean maintaining;
+			private Stats stats;
+			private Disposer<? super K, ? super V> disposer;
+			private Iterator<EvictEntry> cursor;
+			private volatile long nextSweep;
+
+			Evicting(Access<K, V> delegate, EvictStrategy strategy, long minCapacity, long maxCapacity, long threshold,
+					Weigher<? super K, ? super V> weigher, Stats stats) {
 				super(delegate);
 				this.strategy = Require.nonNull(strategy);
 				this.minCapacity = Require.that(minCapacity, minCapacity >= 0);
 				this.maxCapacity = Require.that(maxCapacity, maxCapacity >= minCapacity);
 				this.threshold = Require.that(threshold, threshold > 0);
-				this.entries = Collections.synchronizedMap(new IdentityHashMap<>());
+				this.weigher = weigher;
+				this.entries = new IdentityMap<>();
+				this.weight = new AtomicLong(0);
+				this.registrations = new AtomicLong(0);
+				this.sketch = strategy == EvictStrategy.LEAST_FREQUENT && maxCapacity < Long.MAX_VALUE
+						? new FrequencySketch(entriesOf(maxCapacity, weigher))
+						: null;
+				this.window = Math.max(1, entriesOf(maxCapacity, weigher) / 100);
+				this.shared = delegate.sharesValues();
+				this.maintaining = new AtomicBoolean(false);
+				this.stats = stats;
+				this.cursor = Collections.emptyIterator();
+				this.nextSweep = 0;
+			}
+
+			@Override
+			V acquire(K key, Producer<Entry<K, V>> factory, long timeoutInMillis) {
+				if (sketch != null) {
+					sketch.record(key.hashCode());
+				}
+				V value = delegate.acquire(key, () -> registerEntry(factory), timeoutInMillis);
+				EvictEntry entry = value != null ? entries.get(value) : null;
+				if (shared && weight.get() > maxCapacity) {
+					maintain();
+				}
+				return entry != null ? entry.acquire() : value;
+			}
+
+			/**
+			 * Disposes a value evicted by this decorator, but not those evicted explicitly, which the caller disposes.
+			 */
+			private void dispose(K key, V value) {
+				Exception exception = disposer != null ? disposer.disposeAndReturn(key, value) : null;
+				if (exception != null) {
+					Throwing.unchecked(exception);
+				}
+			}
+
+			@Override
+			void disposeWith(Disposer<? super K, ? super V> disposer) {
+				super.disposeWith(disposer);
+				this.disposer = disposer;
+			}
+
+			@Override
+			boolean evict(K key, V value) {
+				if (delegate.evict(key, value)) {
+					untrack(value);
+					return true;
+				} else {
+					return false;
+				}
+			}
+
+			@Override
+			void evictAll(K key, Disposer<? super K, ? super V> disposer) {
+				delegate.evictAll(key, disposer.andThen((k, v) -> untrack(v)));
+			}
+
+			/**
+			 * Decides between an entry, which left the admission window, and the victim of the main region by their
+			 * estimated frequencies. The candidate is admitted to the main region only if it is more frequent than the
+			 * victim, otherwise it is evicted instead of the victim.
+			 */
+			private EvictEntry admit(EvictEntry candidate, EvictEntry victim) {
+				if (candidate == null || candidate == victim) {
+					return victim;
+				} else if (candidate.estimatedFrequency() > victim.estimatedFrequency()) {
+					candidate.admitted = true;
+					return victim;
+				} else {
+					return candidate;
+				}
+			}
+
+			/**
+			 * Samples a few evictable entries and evicts the one ranking lowest by the strategy's property, until the
+			 * capacity is met or no evictable entry is found. With {@link EvictStrategy#LEAST_FREQUENT}, entries within
+			 * the admission window are skipped, and the first sampled entry not yet admitted competes with the victim
+			 * among all sampled entries.
+			 */
+			private void evictOverCapacity() {
+				ToLongFunction<Evicting<?, ?>.EvictEntry> prop = strategy.property;
+				long attempts = Math.min(weight.get() - maxCapacity, entries.size()) * SAMPLE_SIZE;
+				while (weight.get() > maxCapacity && attempts-- > 0) {
+					EvictEntry victim = null;
+					EvictEntry candidate = null;
+					for (int i = 0; i < SAMPLE_SIZE; i++) {
+						EvictEntry sampled = nextEntry();
+						if (sampled == null) {
+							return;
+						} else if (!sampled.isEvictable()) {
+							continue;
+						} else if (sketch != null && sampled.isInWindow()) {
+							continue;
+						} else if (sketch != null && candidate == null && !sampled.isAdmitted()) {
+							candidate = sampled;
+						}
+						if (victim == null || Long.compareUnsigned(prop.applyAsLong(sampled), prop.applyAsLong(victim)) < 0) {
+							victim = sampled;
+						}
+						if (victim != null && prop == null) {
+							break;
+						}
+					}
+					victim = admit(candidate, victim);
+					if (victim != null) {
+						victim.evict(Stats.Cause.CAPACITY);
+					}
+				}
+			}
+
+			/**
+			 * Sweeps a batch of entries, continuing where the last sweep stopped, and evicts those not used within the
+			 * threshold.
+			 */
+			private void evictOverThreshold(long now) {
+				ToLongFunction<Evicting<?, ?>.EvictEntry> prop = strategy.property;
+				for (int i = 0; i < SWEEP_SIZE && weight.get() > minCapacity; i++) {
+					EvictEntry entry = nextEntry();
+					if (entry == null) {
+						return;
+					} else if (entry.isEvictable() && now - prop.applyAsLong(entry) > threshold) {
+						entry.evict(Stats.Cause.THRESHOLD);
+					}
+				}
+			}
+
+			private void maintain() {
+				if (maintaining.compareAndSet(false, true)) {
+					try {
+						long now = System.currentTimeMillis();
+						if (now >= nextSweep) {
+							nextSweep = now + SWEEP_INTERVAL_IN_MILLIS;
+							if (strategy.property != null && threshold != Long.MAX_VALUE) {
+								evictOverThreshold(now);
+							}
+						}
+						evictOverCapacity();
+					} finally {
+						maintaining.set(false);
+					}
+				}
+			}
+
+			private EvictEntry nextEntry() {
+				if (!cursor.hasNext()) {
+					cursor = entries.values();
+				}
+				return cursor.hasNext() ? cursor.next() : null;
+			}
+
+			private Entry<K, V> registerEntry(Producer<Entry<K, V>> factory) {
+				Entry<K, V> tpl = factory.get();
+				EvictEntry entry = new EvictEntry(tpl.getKey(), tpl.getValue());
+				entries.put(tpl.getValue(), entry);
+				weigh(entry.weight);
+				return tpl;
+			}
+
+			/**
+			 * Records to the given {@link Stats} from now on, starting with the current weight.
+			 */
+			@Override
+			void recordTo(Stats stats) {
+				super.recordTo(stats);
+				if (this.stats != stats) {
+					this.stats = stats;
+					stats.recordWeight(weight.get());
+				}
+			}
+
+			/**
+			 * Releases the value and runs the eviction maintenance, unless another thread is already doing so.
+			 */
+			@Override
+			void release(V value) {
+				EvictEntry entry = entries.get(value);
+				if (entry != null) {
+					entry.release();
+				}
+				if (weight.get() > maxCapacity || System.currentTimeMillis() >= nextSweep) {
+					maintain();
+				}
+			}
+
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Evicting<>(delegate.segment(stripes), strategy, perStripe(minCapacity, stripes), perStripe(maxCapacity, stripes),
+						threshold, weigher, stats);
+			}
+
+			private void untrack(Object value) {
+				EvictEntry entry = entries.remove(value);
+				if (entry != null) {
+					weigh(-entry.weight);
+				}
+			}
+
+			private void weigh(long delta) {
+				weight.addAndGet(delta);
+				if (stats != null) {
+					stats.recordWeight(delta);
+				}
+			}
+
+			/**
+			 * Counts capacities in weights of the given weigher instead of entries, which weigh 1 otherwise.
+			 */
+			public Evicting<K, V> weighedBy(Weigher<? super K, ? super V> weigher) {
+				return new Evicting<>(delegate, strategy, minCapacity, maxCapacity, threshold, Require.nonNull(weigher), stats);
+			}
+
+			public long weight() {
+				return weight.get();
+			}
+
+			public Evicting<K, V> whenThresholdReached(long duration, TimeUnit unit) {
+				Require.that(strategy != EvictStrategy.ANY && strategy != EvictStrategy.LEAST_FREQUENT);
+				long thresholdInMillis = unit.toMillis(duration);
+				return new Evicting<>(delegate, strategy, minCapacity, maxCapacity, thresholdInMillis, weigher, stats);
+			}
+
+			public Evicting<K, V> withCapacity(int min, int max) {
+				return new Evicting<>(delegate, strategy, min, max, threshold, weigher, stats);
+			}
+
+			public Evicting<K, V> withMaximumCapacity(int capacity) {
+				return new Evicting<>(delegate, strategy, minCapacity, capacity, threshold, weigher, stats);
+			}
+
+			/**
+			 * Sets the maximum capacity in weights of the {@link #weighedBy(Weigher) weigher}, such as bytes.
+			 */
+			public Evicting<K, V> withMaximumWeight(long weight) {
+				return new Evicting<>(delegate, strategy, minCapacity, weight, threshold, weigher, stats);
+			}
+
+			public Evicting<K, V> withMinimumCapacity(int capacity) {
+				return new Evicting<>(delegate, strategy, capacity, maxCapacity, threshold, weigher, stats);
+			}
+		}
+
+		/**
+		 * Expires entries after a duration, which an {@link Expiry} determines per entry. Deadlines are tracked in a
+		 * {@link TimingWheel}, which only advances with {@link Cache#expire()}, so that a scheduler drives expiry even
+		 * while the cache is not used. Exclusive values do not expire while in use, but once released.
+		 */
+		public static class Expiring<K, V> extends Decorating<K, V> {
+
+			private class ExpiryEntry {
+
+				private final K key;
+				private final V value;
+				private final TimingWheel<ExpiryEntry>.Timeout timeout;
+				private long missingAt;
+
+				ExpiryEntry(K key, V value) {
+					this.key = Require.nonNull(key);
+					this.value = Require.nonNull(value);
+					this.timeout = wheel.schedule(this, expiry.expireAfterCreate(key, value), TimeUnit.MILLISECONDS);
+					this.missingAt = -1;
+				}
+
+				void access() {
+					long remaining = Math.max(timeout.getDeadline() - wheel.currentTimeMillis(), 0);
+					timeout.reschedule(expiry.expireAfterAccess(key, value, remaining), TimeUnit.MILLISECONDS);
+				}
+
+				/**
+				 * Untracks the value in any case, as it might have been evicted by a decorator below already.
+				 */
+				void expire() {
+					boolean evicted = delegate.evict(key, value);
+					untrack(value);
+					if (evicted && stats != null) {
+						stats.recordEviction(Stats.Cause.EXPIRED);
+					}
+					if (evicted) {
+						dispose(key, value);
+					}
+				}
+
+				/**
+				 * Whether the value has been evicted below without passing this decorator. It must be found missing by two
+				 * sweeps with an unchanged deadline, so that a value just being acquired or released is not mistaken.
+				 */
+				boolean isEvictedBelow() {
+					long deadline = timeout.getDeadline();
+					if (!timeout.isScheduled() || delegate.holds(key, value)) {
+						missingAt = -1;
+						return false;
+					} else if (missingAt == deadline) {
+						return true;
+					} else {
+						missingAt = deadline;
+						return false;
+					}
+				}
+			}
+
+			private static final long DEFAULT_TICK_IN_MILLIS = 1000;
+			private static final int SWEEP_SIZE = 64;
+
+			private final Expiry<? super K, ? super V> expiry;
+			private final TimingWheel<ExpiryEntry> wheel;
+			private final IdentityMap<V, ExpiryEntry> entries;
+			private final boolean shared;
+			private Stats stats;
+			private Disposer<? super K, ? super V> disposer;
+			private Iterator<ExpiryEntry> cursor;
+
+			Expiring(Access<K, V> delegate, Expiry<? super K, ? super V> expiry, long tickInMillis, Stats stats) {
+				super(delegate);
+				this.expiry = Require.nonNull(expiry);
+				this.wheel = new TimingWheel<>(tickInMillis, TimeUnit.MILLISECONDS);
+				this.entries = new IdentityMap<>();
+				this.shared = delegate.sharesValues();
+				this.stats = stats;
+				this.cursor = Collections.emptyIterator();
+			}
+
+			/**
+			 * Acquired shared values count as accessed, while exclusive values stop expiring until they get released.
+			 */
+			@Override
+			V acquire(K key, Producer<Entry<K, V>> factory, long timeoutInMillis) {
+				V value = delegate.acquire(key, () -> registerEntry(factory), timeoutInMillis);
+				ExpiryEntry entry = value != null ? entries.get(value) : null;
+				if (entry != null && shared) {
+					entry.access();
+				} else if (entry != null) {
+					entry.timeout.cancel();
+				}
+				return value;
+			}
+
+			/**
+			 * Disposes a value evicted by this decorator, but not those evicted explicitly, which the caller disposes.
+			 */
+			private void dispose(K key, V value) {
+				Exception exception = disposer != null ? disposer.disposeAndReturn(key, value) : null;
+				if (exception != null) {
+					Throwing.unchecked(exception);
+				}
 			}
 
 			@Override
-			V acquire(K key, Producer<Entry<K, V>> factory, long timeoutInMillis) {
-				return entries.get(delegate.acquire(key, () -> registerEntry(factory), timeoutInMillis)).acquire();
+			void disposeWith(Disposer<? super K, ? super V> disposer) {
+				super.disposeWith(disposer);
+				this.disposer = disposer;
 			}
 
 			@Override
 			boolean evict(K key, V value) {
-				entries.remove(value);
-				return delegate.evict(key, value);
+				if (delegate.evict(key, value)) {
+					untrack(value);
+					return true;
+				} else {
+					return false;
+				}
 			}
 
 			@Override
 			void evictAll(K key, Disposer<? super K, ? super V> disposer) {
-				delegate.evictAll(key, disposer.andThen(entries::remove));
+				delegate.evictAll(key, disposer.andThen((k, v) -> untrack(v)));
 			}
 
-			private void evictOverCapacity() {
-				if (entries.size() > maxCapacity) {
-					List<EvictEntry> copy = new ArrayList<>(entries.values());
-					ToLongFunction<Evicting<?, ?>.EvictEntry> prop = strategy.property;
-					if (prop != null) {
-						copy.sort((e1, e2) -> Long.compareUnsigned(prop.applyAsLong(e1), prop.applyAsLong(e2)));
+			/**
+			 * Expires the entries due and sweeps a batch of entries, continuing where the last sweep stopped, for values
+			 * evicted below, such as by an {@link Evicting} decorator due to its capacity.
+			 */
+			@Override
+			synchronized void expire() {
+				wheel.advance(ExpiryEntry::expire);
+				for (int i = Math.min(SWEEP_SIZE, entries.size()); i > 0; i--) {
+					if (!cursor.hasNext()) {
+						cursor = entries.values();
+					}
+					ExpiryEntry entry = cursor.hasNext() ? cursor.next() : null;
+					if (entry == null) {
+						break;
+					} else if (entry.isEvictedBelow()) {
+						untrack(entry.value);
 					}
-					Predicate<EvictEntry> predicate = EvictEntry::isEvictable;
-					copy.stream().filter(predicate).limit(copy.size() - maxCapacity).forEach(EvictEntry::evict);
 				}
+				delegate.expire();
 			}
 
-			private void evictOverThreshold() {
-				ToLongFunction<Evicting<?, ?>.EvictEntry> prop = strategy.property;
-				if (entries.size() > minCapacity && prop != null) {
-					List<EvictEntry> copy = new ArrayList<>(entries.values());
-					long now = System.currentTimeMillis();
-					Predicate<EvictEntry> predicate = EvictEntry::isEvictable;
-					predicate = predicate.and(e -> now - prop.applyAsLong(e) > threshold);
-					copy.stream().filter(predicate).limit(copy.size() - minCapacity).forEach(EvictEntry::evict);
-				}
+			@Override
+			void recordTo(Stats stats) {
+				super.recordTo(stats);
+				this.stats = stats;
 			}
 
 			private Entry<K, V> registerEntry(Producer<Entry<K, V>> factory) {
 				Entry<K, V> tpl = factory.get();
-				entries.put(tpl.getValue(), new EvictEntry(tpl.getKey(), tpl.getValue()));
+				entries.put(tpl.getValue(), new ExpiryEntry(tpl.getKey(), tpl.getValue()));
 				return tpl;
 			}
 
 			@Override
 			void release(V value) {
-				EvictEntry entry = entries.get(value);
+				ExpiryEntry entry = entries.get(value);
+				delegate.release(value);
 				if (entry != null) {
-					entry.release();
+					entry.access();
 				}
-				evictOverThreshold();
-				evictOverCapacity();
-			}
-
-			public Evicting<K, V> whenThresholdReached(long duration, TimeUnit unit) {
-				Require.that(strategy != EvictStrategy.ANY);
-				long thresholdInMillis = unit.toMillis(duration);
-				return new Evicting<>(delegate, strategy, minCapacity, maxCapacity, thresholdInMillis);
 			}
 
-			public Evicting<K, V> withCapacity(int min, int max) {
-				return new Evicting<>(delegate, strategy, min, max, threshold);
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Expiring<>(delegate.segment(stripes), expiry, wheel.tickInMillis(), stats);
 			}
 
-			public Evicting<K, V> withMaximumCapacity(int capacity) {
-				return new Evicting<>(delegate, strategy, minCapacity, capacity, threshold);
+			private void untrack(Object value) {
+				ExpiryEntry entry = entries.remove(value);
+				if (entry != null) {
+					entry.timeout.cancel();
+				}
 			}
 
-			public Evicting<K, V> withMinimumCapacity(int capacity) {
-				return new Evicting<>(delegate, strategy, capacity, maxCapacity, threshold);
+			/**
+			 * Sets the granularity of expiry, which should match the period {@link Cache#expire()} gets called with.
+			 */
+			public Expiring<K, V> withTick(long duration, TimeUnit unit) {
+				return new Expiring<>(delegate, expiry, unit.toMillis(duration), stats);
 			}
 		}
 
@@ -569,6 +1847,11 @@ public interface Cache<K, V> {
 				this.listeners.add(Require.nonNull(listener));
 			}
 
+			private Listening(Access<K, V> delegate, List<Listener<? super V>> listeners) {
+				super(delegate);
+				this.listeners = listeners;
+			}
+
 			@Override
 			V acquire(K key, Producer<Entry<K, V>> factory, long timeoutInMillis) {
 				V value = delegate.acquire(key, factory, timeoutInMillis);
@@ -628,6 +1911,74 @@ public interface Cache<K, V> {
 					}
 				});
 			}
+
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Listening<>(delegate.segment(stripes), listeners);
+			}
+		}
+
+		/**
+		 * Records acquisitions, loads and explicit evictions. Values loaded asynchronously by an {@link AsyncReadThrough}
+		 * are recorded once their loading completes.
+		 */
+		public static class Recording<K, V> extends Decorating<K, V> {
+
+			private final Stats stats;
+
+			Recording(Access<K, V> delegate, Stats stats) {
+				super(delegate);
+				this.stats = Require.nonNull(stats);
+			}
+
+			@Override
+			V acquire(K key, Producer<Entry<K, V>> factory, long timeoutInMillis) {
+				V value = delegate.acquire(key, () -> load(factory), timeoutInMillis);
+				if (value != null) {
+					stats.recordAcquired();
+				}
+				return value;
+			}
+
+			@Override
+			boolean evict(K key, V value) {
+				if (delegate.evict(key, value)) {
+					stats.recordEviction(Stats.Cause.EXPLICIT);
+					return true;
+				} else {
+					return false;
+				}
+			}
+
+			@Override
+			void evictAll(K key, Disposer<? super K, ? super V> disposer) {
+				delegate.evictAll(key, disposer.andThen((k, v) -> stats.recordEviction(Stats.Cause.EXPLICIT)));
+			}
+
+			private Entry<K, V> load(Producer<Entry<K, V>> factory) {
+				long started = System.nanoTime();
+				Entry<K, V> entry;
+				try {
+					entry = factory.get();
+				} catch (Throwable e) {
+					// a failed load is a missed acquisition, just like failures of asynchronous loads
+					stats.recordAcquired();
+					stats.recordLoad(System.nanoTime() - started, false);
+					throw e;
+				}
+				if (entry.getValue() instanceof AsyncReadThrough.Loaded) {
+					((AsyncReadThrough.Loaded<?>) entry.getValue()).future
+							.whenComplete((v, ex) -> stats.recordLoad(System.nanoTime() - started, ex == null));
+				} else {
+					stats.recordLoad(System.nanoTime() - started, true);
+				}
+				return entry;
+			}
+
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Recording<>(delegate.segment(stripes), stats);
+			}
 		}
 
 		public static class Retrying<K, V> extends Decorating<K, V> {
@@ -655,6 +2006,11 @@ public interface Cache<K, V> {
 				return value;
 			}
 
+			@Override
+			Access<K, V> segment(int stripes) {
+				return new Retrying<>(delegate.segment(stripes), maxRetries, timeoutInMillis);
+			}
+
 			public Retrying<K, V> times(int maxRetries) {
 				return new Retrying<>(delegate, maxRetries, timeoutInMillis);
 			}
@@ -675,25 +2031,60 @@ public interface Cache<K, V> {
 			return delegate.contains(key);
 		}
 
+		@Override
+		void disposeWith(Disposer<? super K, ? super V> disposer) {
+			delegate.disposeWith(disposer);
+		}
+
 		@Override
 		boolean evict(K key, V value) {
 			return delegate.evict(key, value);
 		}
 
+		@Override
+		boolean holds(K key, V value) {
+			return delegate.holds(key, value);
+		}
+
 		@Override
 		void evictAll(K key, Disposer<? super K, ? super V> disposer) {
 			delegate.evictAll(key, disposer);
 		}
 
+		@Override
+		void expire() {
+			delegate.expire();
+		}
+
+		@Override
+		K keyOf(V value) {
+			return delegate.keyOf(value);
+		}
+
 		@Override
 		NavigableSet<K> keys() {
 			return delegate.keys();
 		}
 
+		@Override
+		NavigableSet<K> keys(K key) {
+			return delegate.keys(key);
+		}
+
+		@Override
+		void recordTo(Stats stats) {
+			delegate.recordTo(stats);
+		}
+
 		@Override
 		void release(V value) {
 			delegate.release(value);
 		}
+
+		@Override
+		boolean sharesValues() {
+			return delegate.sharesValues();
+		}
 	}
 
 	@FunctionalInterface
@@ -753,6 +2144,13 @@ public interface Cache<K, V> {
 		LAST_ACQUIRED(Evicting<?, ?>.EvictEntry::lastAcquired), //
 		LAST_RELEASED(Evicting<?, ?>.EvictEntry::lastReleased), //
 		LEAST_ACCESSED(Evicting<?, ?>.EvictEntry::leastAccessed), //
+		/**
+		 * W-TinyLFU: newly created entries are protected by an admission window of the most recent 1% of registrations.
+		 * Once out of the window, an entry is only admitted to the main region if its key is acquired more frequently,
+		 * as estimated by a {@link FrequencySketch}, than the key of the main region's victim. Otherwise it is evicted
+		 * itself. Victims of the main region are the least frequently acquired keys.
+		 */
+		LEAST_FREQUENT(Evicting<?, ?>.EvictEntry::frequency), //
 		OLDEST(Evicting<?, ?>.EvictEntry::created);
 
 		private final ToLongFunction<Evicting<?, ?>.EvictEntry> property;
@@ -762,6 +2160,40 @@ public interface Cache<K, V> {
 		}
 	}
 
+	/**
+	 * Determines per entry, how many milliseconds after its creation or its last access it expires.
+	 */
+	@FunctionalInterface
+	interface Expiry<K, V> {
+
+		static <K, V> Expiry<K, V> afterAccess(long duration, TimeUnit unit) {
+			long durationInMillis = unit.toMillis(duration);
+			return new Expiry<K, V>() {
+
+				@Override
+				public long expireAfterAccess(K key, V value, long remainingInMillis) {
+					return durationInMillis;
+				}
+
+				@Override
+				public long expireAfterCreate(K key, V value) {
+					return durationInMillis;
+				}
+			};
+		}
+
+		static <K, V> Expiry<K, V> afterWrite(long duration, TimeUnit unit) {
+			long durationInMillis = unit.toMillis(duration);
+			return (k, v) -> durationInMillis;
+		}
+
+		default long expireAfterAccess(K key, V value, long remainingInMillis) {
+			return remainingInMillis;
+		}
+
+		long expireAfterCreate(K key, V value);
+	}
+
 	@FunctionalInterface
 	interface Factory<K, V> {
 
@@ -769,6 +2201,16 @@ public interface Cache<K, V> {
 			return k -> mapper.apply(create(k));
 		}
 
+		default BulkFactory<K, V> asBulkFactory() {
+			return keys -> {
+				Map<K, V> values = new HashMap<>();
+				for (K key : keys) {
+					values.put(key, create(key));
+				}
+				return values;
+			};
+		}
+
 		default Supplier<V> asSupplier(K key) {
 			return () -> {
 				try {
@@ -852,6 +2294,10 @@ public interface Cache<K, V> {
 				delegate.evictAll((k, v) -> disposer.accept(v));
 			}
 
+			void expire() {
+				delegate.expire();
+			}
+
 			void release(V value) {
 				delegate.release(value);
 			}
@@ -861,36 +2307,187 @@ public interface Cache<K, V> {
 			}
 		}
 
+		/**
+		 * Stack of released values, which spills half of its values to the shared pool when full. Guarded by a try-lock,
+		 * so that a contended magazine is bypassed instead of waited for.
+		 */
+		private class Magazine {
+
+			private final Object[] values;
+			private final AtomicBoolean locked;
+			private int count;
+
+			Magazine(int capacity) {
+				this.values = new Object[capacity];
+				this.locked = new AtomicBoolean(false);
+				this.count = 0;
+			}
+
+			void clear() {
+				while (!locked.compareAndSet(false, true)) {
+					Thread.yield();
+				}
+				try {
+					spill(0);
+				} finally {
+					locked.set(false);
+				}
+			}
+
+			@SuppressWarnings("unchecked")
+			V pop() {
+				if (!locked.compareAndSet(false, true)) {
+					return null;
+				}
+				try {
+					if (count == 0) {
+						return null;
+					}
+					V value = (V) values[--count];
+					values[count] = null;
+					return value;
+				} finally {
+					locked.set(false);
+				}
+			}
+
+			boolean push(V value) {
+				if (!locked.compareAndSet(false, true)) {
+					return false;
+				}
+				try {
+					if (count == values.length) {
+						spill(count / 2);
+					}
+					values[count++] = value;
+					return true;
+				} finally {
+					locked.set(false);
+				}
+			}
+
+			@SuppressWarnings("unchecked")
+			private void spill(int remaining) {
+				while (count > remaining) {
+					V value = (V) values[--count];
+					values[count] = null;
+					holder.release(value);
+				}
+			}
+		}
+
+		private static int stripesOf(int parallelism) {
+			return Integer.highestOneBit(Math.max(parallelism, 1) * 2 - 1) << 1;
+		}
+
 		private final Holder<?> holder;
+		private final int magazineSize;
+		private final List<Magazine> magazines;
+		private final LongAdder hits;
+		private final LongAdder misses;
 
 		<K> Pool(ReadThrough<K, V> delegate, K key) {
-			holder = new Holder<>(delegate, key);
+			this.holder = new Holder<>(delegate, key);
+			this.magazineSize = 0;
+			this.magazines = null;
+			this.hits = null;
+			this.misses = null;
+		}
+
+		private Pool(Pool<V> copy, int magazineSize) {
+			this.holder = copy.holder;
+			this.magazineSize = Require.that(magazineSize, magazineSize > 1);
+			int stripes = stripesOf(Runtime.getRuntime().availableProcessors());
+			this.magazines = new ArrayList<>(stripes);
+			for (int i = 0; i < stripes; i++) {
+				magazines.add(new Magazine(magazineSize));
+			}
+			this.hits = new LongAdder();
+			this.misses = new LongAdder();
 		}
 
 		public V acquire() {
-			return holder.acquire();
+			V value = fromMagazine();
+			return value != null ? value : holder.acquire();
 		}
 
 		public V acquire(long timeoutInMillis) {
-			return holder.acquire(timeoutInMillis);
+			V value = fromMagazine();
+			return value != null ? value : holder.acquire(timeoutInMillis);
 		}
 
 		@Override
 		public void evictAll(Disposer<Void, V> disposer) {
-			holder.evictAll(v -> disposer.dispose(null, v));
+			evictAll(v -> disposer.dispose(null, v));
 		}
 
+		/**
+		 * Evicts all values of the shared pool, including those in magazines.
+		 */
 		public void evictAll(TConsumer<V> disposer) {
+			if (magazines != null) {
+				magazines.forEach(Magazine::clear);
+			}
 			holder.evictAll(disposer);
 		}
 
+		/**
+		 * Expires values of the shared pool. Values in magazines are not expired before they return to the pool.
+		 */
+		@Override
+		public void expire() {
+			holder.expire();
+		}
+
+		private V fromMagazine() {
+			if (magazines == null) {
+				return null;
+			}
+			V value = magazine().pop();
+			(value != null ? hits : misses).increment();
+			return value;
+		}
+
+		/**
+		 * Returns the ratio of acquisitions served by magazines, or 0 if this pool has no magazines.
+		 */
+		public double hitRatio() {
+			if (magazines == null) {
+				return 0;
+			}
+			long hitCount = hits.sum();
+			long total = hitCount + misses.sum();
+			return total > 0 ? (double) hitCount / total : 0;
+		}
+
+		/**
+		 * Returns the magazine of the calling thread's stripe. Magazines are not bound to threads, so values released by
+		 * short-lived threads, such as virtual threads, are not lost with them.
+		 */
+		private Magazine magazine() {
+			long id = Thread.currentThread().getId();
+			int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+			return magazines.get((hash ^ (hash >>> 16)) & (magazines.size() - 1));
+		}
+
 		public void release(V value) {
-			holder.release(value);
+			if (magazines == null || !magazine().push(value)) {
+				holder.release(value);
+			}
+		}
+
+		/**
+		 * Returns a pool keeping up to the given number of released values in magazines, which are striped by thread and
+		 * serve subsequent acquisitions without touching the shared pool.
+		 */
+		public Pool<V> withMagazines(int magazineSize) {
+			return new Pool<>(this, magazineSize);
 		}
 
 		@Override
 		public <T> Pool<T> wrapEntries(Function<? super V, ? extends T> wrapper, Function<? super T, ? extends V> unwrapper) {
-			return holder.wrapEntries(wrapper, unwrapper);
+			Pool<T> wrapped = holder.wrapEntries(wrapper, unwrapper);
+			return magazines != null ? wrapped.withMagazines(magazineSize) : wrapped;
 		}
 	}
 
@@ -908,11 +2505,14 @@ public interface Cache<K, V> {
 
 		private final Aside<K, V> delegate;
 		private final Factory<? super K, ? extends V> factory;
+		private final BulkFactory<? super K, ? extends V> bulkFactory;
 		private final Disposer<? super K, ? super V> disposer;
 
-		ReadThrough(Aside<K, V> delegate, Factory<? super K, ? extends V> factory, Disposer<? super K, ? super V> disposer) {
+		ReadThrough(Aside<K, V> delegate, Factory<? super K, ? extends V> factory, BulkFactory<? super K, ? extends V> bulkFactory,
+				Disposer<? super K, ? super V> disposer) {
 			this.delegate = Require.nonNull(delegate);
 			this.factory = Require.nonNull(factory);
+			this.bulkFactory = Require.nonNull(bulkFactory);
 			this.disposer = Require.nonNull(disposer);
 		}
 
@@ -924,6 +2524,14 @@ public interface Cache<K, V> {
 			return delegate.acquire(key, factory, timeoutInMillis);
 		}
 
+		public Map<K, V> acquireAll(Collection<? extends K> keys) {
+			return delegate.acquireAll(keys, bulkFactory, disposer, Long.MAX_VALUE);
+		}
+
+		public Map<K, V> acquireAll(Collection<? extends K> keys, long timeoutInMillis) {
+			return delegate.acquireAll(keys, bulkFactory, disposer, timeoutInMillis);
+		}
+
 		public boolean contains(K key) {
 			return delegate.contains(key);
 		}
@@ -937,6 +2545,11 @@ public interface Cache<K, V> {
 			delegate.evictAll(key, disposer);
 		}
 
+		@Override
+		public void expire() {
+			delegate.expire();
+		}
+
 		public Pool<V> pooledBy(K key) {
 			return new Pool<>(this, key);
 		}
@@ -947,8 +2560,223 @@ public interface Cache<K, V> {
 
 		@Override
 		public <T> ReadThrough<K, T> wrapEntries(Function<? super V, ? extends T> wrapper, Function<? super T, ? extends V> unwrapper) {
-			return new ReadThrough<>(delegate.wrapEntries(wrapper, unwrapper), factory.andThen(wrapper), disposer.with(unwrapper));
+			return new ReadThrough<>(delegate.wrapEntries(wrapper, unwrapper), factory.andThen(wrapper), bulkFactory.andThen(wrapper),
+					disposer.with(unwrapper));
+		}
+	}
+
+	/**
+	 * Statistics of a cache, recorded in striped counters by {@link Recording} and the decorators below it. Load latencies
+	 * are recorded in a histogram, whose buckets double in width. The size counts values loaded and not yet evicted, while
+	 * the weighted size sums the weights of the entries tracked by {@link Evicting}.
+	 */
+	class Stats {
+
+		public enum Cause {
+			EXPLICIT, CAPACITY, THRESHOLD, EXPIRED;
+		}
+
+		@FunctionalInterface
+		public interface Sink {
+
+			Sink NONE = (name, snapshot) -> {
+			};
+
+			void publish(String name, Snapshot snapshot);
+		}
+
+		public static class Snapshot {
+
+			private final long acquisitions;
+			private final long loadSuccesses;
+			private final long loadFailures;
+			private final long loadNanos;
+			private final long[] loadLatencies;
+			private final long[] evictions;
+			private final long size;
+			private final long weightedSize;
+			private final long blockedAcquisitions;
+			private final long blockedNanos;
+
+			Snapshot(Stats stats) {
+				this.acquisitions = stats.acquisitions.sum();
+				this.loadSuccesses = stats.loadSuccesses.sum();
+				this.loadFailures = stats.loadFailures.sum();
+				this.loadNanos = stats.loadNanos.sum();
+				this.loadLatencies = Arrays.stream(stats.loadLatencies).mapToLong(LongAdder::sum).toArray();
+				this.evictions = Arrays.stream(stats.evictions).mapToLong(LongAdder::sum).toArray();
+				this.size = stats.size.sum();
+				this.weightedSize = stats.weightedSize.sum();
+				this.blockedAcquisitions = stats.blockedAcquisitions.sum();
+				this.blockedNanos = stats.blockedNanos.sum();
+			}
+
+			public long getBlockedAcquisitions() {
+				return blockedAcquisitions;
+			}
+
+			public long getBlockedNanos() {
+				return blockedNanos;
+			}
+
+			public long getEvictions(Cause cause) {
+				return evictions[cause.ordinal()];
+			}
+
+			/**
+			 * Returns the acquisitions served without loading, which is approximated, as counters are read one by one.
+			 */
+			public long getHits() {
+				return Math.max(acquisitions - loadSuccesses - loadFailures, 0);
+			}
+
+			public double getHitRate() {
+				return acquisitions > 0 ? (double) getHits() / acquisitions : 1.0;
+			}
+
+			public long getLoadFailures() {
+				return loadFailures;
+			}
+
+			/**
+			 * Returns the number of loads per bucket, where bucket {@code i} counts loads faster than
+			 * {@code 2^(i + 10)} nanoseconds and the last bucket all slower ones.
+			 */
+			public long[] getLoadLatencies() {
+				return loadLatencies.clone();
+			}
+
+			/**
+			 * Returns the upper bound of the bucket, up to which the given quantile of loads completed.
+			 */
+			public long getLoadLatencyInNanos(double quantile) {
+				Require.that(quantile >= 0 && quantile <= 1);
+				long total = Arrays.stream(loadLatencies).sum();
+				long count = 0;
+				for (int i = 0; i < loadLatencies.length - 1; i++) {
+					count += loadLatencies[i];
+					if (count >= quantile * total) {
+						return 1L << (i + MIN_LATENCY_SHIFT);
+					}
+				}
+				return Long.MAX_VALUE;
+			}
+
+			public long getLoadSuccesses() {
+				return loadSuccesses;
+			}
+
+			public long getMisses() {
+				return loadSuccesses + loadFailures;
+			}
+
+			public long getSize() {
+				return size;
+			}
+
+			public long getTotalLoadNanos() {
+				return loadNanos;
+			}
+
+			public long getWeightedSize() {
+				return weightedSize;
+			}
+
+			@Override
+			public String toString() {
+				return "Snapshot [hits=" + getHits() + ", misses=" + getMisses() + ", loadFailures=" + loadFailures + ", size=" + size
+						+ ", weightedSize=" + weightedSize + ", evictions=" + Arrays.toString(evictions) + ", blockedNanos=" + blockedNanos
+						+ "]";
+			}
+		}
+
+		private static final int MIN_LATENCY_SHIFT = 10;
+		private static final int LATENCY_BUCKETS = 32;
+
+		private static LongAdder[] adders(int count) {
+			LongAdder[] adders = new LongAdder[count];
+			for (int i = 0; i < count; i++) {
+				adders[i] = new LongAdder();
+			}
+			return adders;
+		}
+
+		private final String name;
+		private final LongAdder acquisitions;
+		private final LongAdder loadSuccesses;
+		private final LongAdder loadFailures;
+		private final LongAdder loadNanos;
+		private final LongAdder[] loadLatencies;
+		private final LongAdder[] evictions;
+		private final LongAdder size;
+		private final LongAdder weightedSize;
+		private final LongAdder blockedAcquisitions;
+		private final LongAdder blockedNanos;
+
+		public Stats(String name) {
+			this.name = Require.nonEmpty(name);
+			this.acquisitions = new LongAdder();
+			this.loadSuccesses = new LongAdder();
+			this.loadFailures = new LongAdder();
+			this.loadNanos = new LongAdder();
+			this.loadLatencies = adders(LATENCY_BUCKETS);
+			this.evictions = adders(Cause.values().length);
+			this.size = new LongAdder();
+			this.weightedSize = new LongAdder();
+			this.blockedAcquisitions = new LongAdder();
+			this.blockedNanos = new LongAdder();
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void publishTo(Sink sink) {
+			sink.publish(name, snapshot());
+		}
+
+		void recordAcquired() {
+			acquisitions.increment();
+		}
+
+		void recordBlocked(long nanos) {
+			blockedAcquisitions.increment();
+			blockedNanos.add(nanos);
+		}
+
+		void recordEviction(Cause cause) {
+			evictions[cause.ordinal()].increment();
+			size.decrement();
+		}
+
+		void recordLoad(long nanos, boolean success) {
+			if (success) {
+				loadSuccesses.increment();
+				size.increment();
+			} else {
+				loadFailures.increment();
+			}
+			loadNanos.add(nanos);
+			int bucket = Math.max(Long.SIZE - Long.numberOfLeadingZeros(nanos) - MIN_LATENCY_SHIFT, 0);
+			loadLatencies[Math.min(bucket, LATENCY_BUCKETS - 1)].increment();
+		}
+
+		void recordWeight(long delta) {
+			weightedSize.add(delta);
 		}
+
+		public Snapshot snapshot() {
+			return new Snapshot(this);
+		}
+	}
+
+	@FunctionalInterface
+	interface Weigher<K, V> {
+
+		/**
+		 * Returns the non-negative weight of an entry, which is determined once on its creation.
+		 */
+		int weigh(K key, V value);
 	}
 
 	@FunctionalInterface
@@ -987,6 +2815,11 @@ public interface Cache<K, V> {
 			delegate.evictAll(disposer);
 		}
 
+		@Override
+		public void expire() {
+			delegate.expire();
+		}
+
 		public V get(K key) {
 			return get(key, Long.MAX_VALUE);
 		}
@@ -1014,6 +2847,12 @@ public interface Cache<K, V> {
 			return Require.nonNull(holder.value);
 		}
 
+		public Map<K, V> putAll(Map<? extends K, ? extends V> newValues) {
+			Map<K, V> values = new LinkedHashMap<>();
+			newValues.forEach((k, v) -> values.put(k, put(k, v)));
+			return values;
+		}
+
 		@Override
 		public <T> WriteThrough<K, T> wrapEntries(Function<? super V, ? extends T> wrapper, Function<? super T, ? extends V> unwrapper) {
 			return new WriteThrough<>(delegate.wrapEntries(wrapper, unwrapper), reader.andThen(wrapper), writer.andThen(unwrapper));
@@ -1021,6 +2860,9 @@ public interface Cache<K, V> {
 	}
 
 	ConfKey<Integer> MAX_CAPACITY = ConfKey.ofInteger("maxCapacity", 1024);
+	ConfKey<Long> EXPIRE_AFTER_ACCESS_IN_MILLIS = ConfKey.ofLong("expireAfterAccessInMillis", Long.MAX_VALUE);
+	ConfKey<Long> EXPIRY_TICK_IN_MILLIS = ConfKey.ofLong("expiryTickInMillis", 1000L);
+	ConfKey<Integer> STRIPES = ConfKey.ofInteger("stripes", Runtime.getRuntime().availableProcessors());
 
 	static <K extends Comparable<K>, V> Exclusive<K, V> exclusive(Function<? super V, ? extends K> keyedBy) {
 		return new Exclusive<>(Comparable::compareTo, keyedBy);
@@ -1047,11 +2889,39 @@ public interface Cache<K, V> {
 				.lookupValuesWithEqualKeys();
 	}
 
+	static <K, V> AsyncReadThrough<K, V> sharedOnEqualKeyAsync(Factory<? super K, ? extends CompletionStage<? extends V>> loader) {
+		return sharedOnEqualKeyAsync(Function.identity(), loader);
+	}
+
+	static <K, V> AsyncReadThrough<K, V> sharedOnEqualKeyAsync(
+			Function<Access<K, AsyncReadThrough.Loaded<V>>, Access<K, AsyncReadThrough.Loaded<V>>> configurer,
+			Factory<? super K, ? extends CompletionStage<? extends V>> loader) {
+		return new AsyncReadThrough<>(sharedOnEqualKey(configurer), loader, null, Aside::ignore, Long.MAX_VALUE);
+	}
+
+	static <V> SizeClassed<V> sizeClassed(ToIntFunction<? super V> sizeOf, int minSize, int maxSize, long budget,
+			SizeClassed.Oversize oversize) {
+		return new SizeClassed<>(sizeOf, minSize, maxSize, budget, oversize);
+	}
+
+	/**
+	 * Stripes the given template, whose capacities get divided among the stripes. Templates, which cannot be striped,
+	 * such as {@link SizeClassed}, are rejected with an {@link IllegalArgumentException}.
+	 */
+	static <K, V> Striped<K, V> striped(int stripes, Access<K, V> template) {
+		return new Striped<>(template, stripes);
+	}
+
 	default void evictAll() {
 		evictAll(Aside::ignore);
 	}
 
 	void evictAll(Disposer<K, V> disposer);
 
+	/**
+	 * Expires all entries due, if time based expiry is configured. Meant to be called periodically.
+	 */
+	void expire();
+
 	<T> Cache<K, T> wrapEntries(Function<? super V, ? extends T> wrapper, Function<? super T, ? extends V> unwrapper);
 }
@@ -0,0 +1,91 @@
+package org.ddd4j.util.collection;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.ddd4j.util.Require;
+
+/**
+ * Count-min sketch of depth 4 with 4 bit counters, estimating how often a hash has been recorded. All counters are halved
+ * after a sample period of 10 times the capacity, so that the estimation favors recent history.
+ */
+public class FrequencySketch {
+
+	private static final long[] SEEDS = { 0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL, 0xCBF29CE484222325L };
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final int MAX_COUNT = 15;
+	private static final int MAX_TABLE_SIZE = 1 << 20;
+
+	private static int spread(int hash) {
+		hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+		hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+		return (hash >>> 16) ^ hash;
+	}
+
+	private final AtomicLongArray table;
+	private final int samplePeriod;
+	private final AtomicInteger additions;
+
+	public FrequencySketch(int capacity) {
+		Require.that(capacity > 0);
+		int size = Integer.highestOneBit(Math.min(Math.max(capacity - 1, 1), MAX_TABLE_SIZE - 1)) << 1;
+		this.table = new AtomicLongArray(size);
+		this.samplePeriod = 10 * size;
+		this.additions = new AtomicInteger(0);
+	}
+
+	private int counter(long word, int offset) {
+		return (int) ((word >>> offset) & MAX_COUNT);
+	}
+
+	public int frequency(int hash) {
+		int h = spread(hash);
+		int frequency = MAX_COUNT;
+		for (int i = 0; i < SEEDS.length; i++) {
+			frequency = Math.min(frequency, counter(table.get(indexOf(h, i)), offsetOf(h, i)));
+		}
+		return frequency;
+	}
+
+	private boolean incrementAt(int index, int offset) {
+		long word;
+		do {
+			word = table.get(index);
+			if (counter(word, offset) == MAX_COUNT) {
+				return false;
+			}
+		} while (!table.compareAndSet(index, word, word + (1L << offset)));
+		return true;
+	}
+
+	private int indexOf(int hash, int depth) {
+		long h = (hash + SEEDS[depth]) * SEEDS[depth];
+		h += h >>> 32;
+		return (int) h & (table.length() - 1);
+	}
+
+	private int offsetOf(int hash, int depth) {
+		return ((hash >>> (depth << 3)) & 0xF) << 2;
+	}
+
+	public void record(int hash) {
+		int h = spread(hash);
+		boolean added = false;
+		for (int i = 0; i < SEEDS.length; i++) {
+			added |= incrementAt(indexOf(h, i), offsetOf(h, i));
+		}
+		if (added && additions.incrementAndGet() == samplePeriod) {
+			reset();
+		}
+	}
+
+	private void reset() {
+		for (int i = 0; i < table.length(); i++) {
+			long word;
+			do {
+				word = table.get(i);
+			} while (!table.compareAndSet(i, word, (word >>> 1) & RESET_MASK));
+		}
+		additions.addAndGet(-samplePeriod / 2);
+	}
+}
@@ -0,0 +1,101 @@
+package org.ddd4j.util.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent map, which compares keys by identity and therefore looks them up without wrapping. Keys are spread by their
+ * identity hash code over segments, each an {@link IdentityHashMap} guarded by its own lock. Values are iterated one
+ * segment snapshot at a time, so iteration is weakly consistent and never fails on concurrent modification.
+ */
+class IdentityMap<K, V> {
+
+	private static final int SEGMENTS_PER_PROCESSOR = 4;
+
+	private final List<Map<K, V>> segments;
+	private final int mask;
+	private final AtomicInteger size;
+
+	IdentityMap() {
+		int count = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * SEGMENTS_PER_PROCESSOR - 1) << 1;
+		this.segments = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			segments.add(new IdentityHashMap<>());
+		}
+		this.mask = count - 1;
+		this.size = new AtomicInteger(0);
+	}
+
+	V get(Object key) {
+		Map<K, V> segment = segmentOf(key);
+		synchronized (segment) {
+			return segment.get(key);
+		}
+	}
+
+	V put(K key, V value) {
+		Map<K, V> segment = segmentOf(key);
+		V previous;
+		synchronized (segment) {
+			previous = segment.put(key, value);
+		}
+		if (previous == null) {
+			size.incrementAndGet();
+		}
+		return previous;
+	}
+
+	V remove(Object key) {
+		Map<K, V> segment = segmentOf(key);
+		V removed;
+		synchronized (segment) {
+			removed = segment.remove(key);
+		}
+		if (removed != null) {
+			size.decrementAndGet();
+		}
+		return removed;
+	}
+
+	private Map<K, V> segmentOf(Object key) {
+		int hash = System.identityHashCode(key);
+		return segments.get((hash ^ (hash >>> 16)) & mask);
+	}
+
+	int size() {
+		return size.get();
+	}
+
+	Iterator<V> values() {
+		return new Iterator<V>() {
+
+			private int next = 0;
+			private Iterator<V> current = Collections.emptyIterator();
+
+			@Override
+			public boolean hasNext() {
+				while (!current.hasNext() && next < segments.size()) {
+					Map<K, V> segment = segments.get(next++);
+					synchronized (segment) {
+						current = segment.isEmpty() ? Collections.emptyIterator() : new ArrayList<>(segment.values()).iterator();
+					}
+				}
+				return current.hasNext();
+			}
+
+			@Override
+			public V next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return current.next();
+			}
+		};
+	}
+}
@@ -0,0 +1,122 @@
+package org.ddd4j.util.collection;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.ddd4j.util.Require;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer. Producers claim a slot by advancing the producer
+ * index and publish their element into it afterwards, so the consumer may briefly spin on a claimed slot. Producer and
+ * consumer indices are kept apart to prevent false sharing, and producers cache the limit up to which they may claim
+ * slots without reading the consumer index. Concurrent consumers must be serialized externally.
+ */
+public class MpscArrayQueue<E> {
+
+	private static final int PAD = 16;
+	private static final int PRODUCER_INDEX = PAD;
+	private static final int PRODUCER_LIMIT = PAD + 1;
+	private static final int CONSUMER_INDEX = 2 * PAD;
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final int MAX_SPINS = 100;
+
+	private final AtomicReferenceArray<E> elements;
+	private final AtomicLongArray indices;
+	private final int capacity;
+	private final int mask;
+
+	public MpscArrayQueue(int capacity) {
+		this.capacity = Require.that(capacity, capacity > 0 && capacity <= MAX_CAPACITY);
+		int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+		this.elements = new AtomicReferenceArray<>(size);
+		this.indices = new AtomicLongArray(3 * PAD);
+		this.mask = size - 1;
+		indices.set(PRODUCER_LIMIT, capacity);
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Passes elements to the given holder, until it accepts no more or the given maximum has been reached. Must only be
+	 * called by one consumer at a time.
+	 *
+	 * @return the number of drained elements
+	 */
+	public int drainTo(RingBuffer.Holder<? super E> holder, int max) {
+		Require.nonNull(holder);
+		holder.reinit();
+		int drained = 0;
+		boolean more = true;
+		E element;
+		while (more && drained < max && (element = poll()) != null) {
+			more = holder.acceptsMore(element);
+			drained++;
+		}
+		return drained;
+	}
+
+	public boolean isEmpty() {
+		return indices.get(CONSUMER_INDEX) == indices.get(PRODUCER_INDEX);
+	}
+
+	/**
+	 * Enqueues the element, unless the queue is full.
+	 */
+	public boolean offer(E element) {
+		Require.nonNull(element);
+		long limit = indices.get(PRODUCER_LIMIT);
+		long index;
+		do {
+			index = indices.get(PRODUCER_INDEX);
+			if (index >= limit) {
+				limit = indices.get(CONSUMER_INDEX) + capacity;
+				if (index >= limit) {
+					return false;
+				}
+				indices.lazySet(PRODUCER_LIMIT, limit);
+			}
+		} while (!indices.compareAndSet(PRODUCER_INDEX, index, index + 1));
+		elements.lazySet(offsetOf(index), element);
+		return true;
+	}
+
+	private int offsetOf(long index) {
+		return (int) index & mask;
+	}
+
+	/**
+	 * Dequeues the next element or returns {@code null}, if the queue is empty. Must only be called by one consumer at
+	 * a time.
+	 */
+	public E poll() {
+		long index = indices.get(CONSUMER_INDEX);
+		int offset = offsetOf(index);
+		E element = elements.get(offset);
+		if (element == null) {
+			if (index == indices.get(PRODUCER_INDEX)) {
+				return null;
+			}
+			// the slot has been claimed, but its element is not yet published
+			int spins = 0;
+			do {
+				if (++spins < MAX_SPINS) {
+					Thread.onSpinWait();
+				} else {
+					Thread.yield();
+				}
+				element = elements.get(offset);
+			} while (element == null);
+		}
+		elements.lazySet(offset, null);
+		indices.lazySet(CONSUMER_INDEX, index + 1);
+		return element;
+	}
+
+	public int size() {
+		long consumer = indices.get(CONSUMER_INDEX);
+		long producer = indices.get(PRODUCER_INDEX);
+		return (int) Math.max(Math.min(producer - consumer, capacity), 0);
+	}
+}
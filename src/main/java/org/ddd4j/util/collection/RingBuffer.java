@@ -4,14 +4,22 @@ import java.util.Iterator;
 import java.util.NoSuchElementException;
 import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.ddd4j.util.Require;
 
+/**
+ * Bounded ring buffer, where elements are addressed by ever increasing sequences. Producers claim a sequence, store
+ * their element and publish it afterwards, while consumers only read up to the highest published sequence and gate
+ * producers by their own sequence, so no element is overwritten before it has been consumed. Sequences are kept apart
+ * to prevent false sharing. Consumers drain elements in batches and take turns, if running concurrently.
+ */
 public class RingBuffer<E> implements Iterable<E>, Iterator<E> {
 
 	public interface Holder<E> {
@@ -33,7 +41,7 @@ public class RingBuffer<E> implements Iterable<E>, Iterator<E> {
 			@Override
 			public boolean acceptsMore(E element) {
 				elements[offset + current++] = element;
-				return current == length;
+				return current < length;
 			}
 
 			@Override
@@ -75,20 +83,116 @@ public class RingBuffer<E> implements Iterable<E>, Iterator<E> {
 		}
 	}
 
-	private static final int EMPTY = -1;
+	public enum ProducerType {
+		/**
+		 * Elements are put by one thread at a time, which publishes them by advancing the cursor.
+		 */
+		SINGLE,
+		/**
+		 * Elements are put concurrently by threads, which claim their sequences by advancing the cursor and publish them
+		 * per slot.
+		 */
+		MULTI;
+	}
+
+	private static final int PAD = 16;
+	private static final int CURSOR = PAD;
+	private static final int GATING_CACHE = PAD + 1;
+	private static final int CONSUMER = 2 * PAD;
+	private static final int MAX_CAPACITY = 1 << 30;
+	private static final long INITIAL = -1;
 
+	private final ProducerType producerType;
 	private final E[] elements;
-	private final AtomicInteger getIndex;
-	private final AtomicInteger putIndex;
+	private final AtomicIntegerArray published;
+	private final AtomicLongArray sequences;
 	private final AtomicLong offset;
+	private final Object consumers;
+	private final int capacity;
+	private final int mask;
+	private final int shift;
+
+	public RingBuffer(int capacity) {
+		this(capacity, ProducerType.MULTI);
+	}
 
 	@SuppressWarnings("unchecked")
-	public RingBuffer(int size) {
-		Require.that(size > 0);
+	public RingBuffer(int capacity, ProducerType producerType) {
+		this.capacity = Require.that(capacity, capacity > 0 && capacity <= MAX_CAPACITY);
+		this.producerType = Require.nonNull(producerType);
+		int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
 		this.elements = (E[]) new Object[size];
-		this.getIndex = new AtomicInteger(EMPTY);
-		this.putIndex = new AtomicInteger(0);
+		this.mask = size - 1;
+		this.shift = Integer.numberOfTrailingZeros(size);
+		if (producerType == ProducerType.MULTI) {
+			this.published = new AtomicIntegerArray(size);
+			for (int i = 0; i < size; i++) {
+				published.set(i, -1);
+			}
+		} else {
+			this.published = null;
+		}
+		this.sequences = new AtomicLongArray(3 * PAD);
+		sequences.set(CURSOR, INITIAL);
+		sequences.set(GATING_CACHE, INITIAL);
+		sequences.set(CONSUMER, INITIAL);
 		this.offset = new AtomicLong(0);
+		this.consumers = new Object();
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Claims the next sequence or returns -1, if the buffer is full.
+	 */
+	private long claim() {
+		while (true) {
+			long next = sequences.get(CURSOR) + 1;
+			long wrapPoint = next - capacity;
+			if (wrapPoint > sequences.get(GATING_CACHE)) {
+				long gating = sequences.get(CONSUMER);
+				if (wrapPoint > gating) {
+					return -1;
+				}
+				sequences.lazySet(GATING_CACHE, gating);
+			}
+			if (producerType == ProducerType.SINGLE || sequences.compareAndSet(CURSOR, next - 1, next)) {
+				return next;
+			}
+		}
+	}
+
+	/**
+	 * Passes published elements to the given holder, until it accepts no more or the given maximum has been reached.
+	 * Producers are released once per batch.
+	 *
+	 * @return the number of drained elements
+	 */
+	public int drainTo(Holder<? super E> holder, int max) {
+		Require.nonNull(holder);
+		holder.reinit();
+		if (max <= 0) {
+			return 0;
+		}
+		synchronized (consumers) {
+			long consumed = sequences.get(CONSUMER);
+			long end = Math.min(highestPublished(consumed + 1, sequences.get(CURSOR)), consumed + max);
+			long sequence = consumed;
+			try {
+				boolean more = true;
+				while (more && sequence < end) {
+					int index = indexOf(++sequence);
+					E element = elements[index];
+					elements[index] = null;
+					more = holder.acceptsMore(element);
+				}
+			} finally {
+				sequences.lazySet(CONSUMER, sequence);
+			}
+			return (int) (sequence - consumed);
+		}
 	}
 
 	public E get() throws NoSuchElementException {
@@ -96,24 +200,15 @@ public class RingBuffer<E> implements Iterable<E>, Iterator<E> {
 	}
 
 	public int get(E[] target) {
-		return get(new Holder.Array<>(target, 0, target.length)).size();
+		return get(target, 0, target.length);
 	}
 
 	public int get(E[] target, int offset, int length) {
-		return get(new Holder.Array<>(target, offset, length)).size();
+		return drainTo(new Holder.Array<>(target, offset, length), length);
 	}
 
 	public <H extends Holder<? super E>> H get(H holder) {
-		getIndex.getAndUpdate(i -> {
-			holder.reinit();
-			while (i != EMPTY && i != putIndex.get() && holder.acceptsMore(elements[i])) {
-				i = nextIndex(i);
-			}
-			if (i == putIndex.get()) {
-				i = EMPTY;
-			}
-			return i;
-		});
+		drainTo(holder, Integer.MAX_VALUE);
 		return holder;
 	}
 
@@ -134,12 +229,32 @@ public class RingBuffer<E> implements Iterable<E>, Iterator<E> {
 		return !isEmpty();
 	}
 
+	/**
+	 * Returns the highest sequence within the given range, up to which all elements have been published.
+	 */
+	private long highestPublished(long from, long to) {
+		if (producerType == ProducerType.SINGLE) {
+			return to;
+		}
+		for (long sequence = from; sequence <= to; sequence++) {
+			if (published.get(indexOf(sequence)) != (int) (sequence >>> shift)) {
+				return sequence - 1;
+			}
+		}
+		return to;
+	}
+
+	private int indexOf(long sequence) {
+		return (int) sequence & mask;
+	}
+
 	public boolean isEmpty() {
-		return getIndex.get() == EMPTY;
+		long next = sequences.get(CONSUMER) + 1;
+		return highestPublished(next, Math.min(next, sequences.get(CURSOR))) < next;
 	}
 
 	public boolean isFull() {
-		return getIndex.get() == putIndex.get();
+		return sequences.get(CURSOR) - sequences.get(CONSUMER) >= capacity;
 	}
 
 	@Override
@@ -152,17 +267,33 @@ public class RingBuffer<E> implements Iterable<E>, Iterator<E> {
 		return get();
 	}
 
-	private int nextIndex(int current) {
-		return (current + 1) % elements.length;
-	}
-
-	public void put(E element) {
+	/**
+	 * Puts the element, unless the buffer is full.
+	 */
+	public boolean offer(E element) {
 		Require.nonNull(element);
-		int index = putIndex.getAndUpdate(this::nextIndex);
+		long sequence = claim();
+		if (sequence < 0) {
+			return false;
+		}
+		int index = indexOf(sequence);
 		elements[index] = element;
-		getIndex.compareAndSet(index, nextIndex(index)); // drop last due to overflow
-		getIndex.compareAndSet(EMPTY, index); // was empty before
+		if (producerType == ProducerType.SINGLE) {
+			sequences.lazySet(CURSOR, sequence);
+		} else {
+			published.lazySet(index, (int) (sequence >>> shift));
+		}
 		offset.getAndIncrement();
+		return true;
+	}
+
+	/**
+	 * Puts the element and waits for consumers, while the buffer is full.
+	 */
+	public void put(E element) {
+		while (!offer(element)) {
+			LockSupport.parkNanos(1);
+		}
 	}
 
 	public void put(E element, long offset) {
@@ -171,15 +302,8 @@ public class RingBuffer<E> implements Iterable<E>, Iterator<E> {
 	}
 
 	public int size() {
-		int get = getIndex.get();
-		if (get == EMPTY) {
-			return 0;
-		}
-		int size = putIndex.get() - get;
-		if (size <= 0) {
-			size += elements.length;
-		}
-		return size;
+		long size = sequences.get(CURSOR) - sequences.get(CONSUMER);
+		return (int) Math.max(Math.min(size, capacity), 0);
 	}
 
 	public Stream<E> stream() {
@@ -0,0 +1,226 @@
+package org.ddd4j.util.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.ddd4j.util.Require;
+
+/**
+ * Hierarchical timing wheel of 6 levels with 64 slots each, where every level spans 64 slots of the level below.
+ * Scheduling and canceling take constant time, while advancing expires the due timeouts and cascades the timeouts of
+ * coarser levels into finer ones. Time is only read when advancing and cached in between, so timeouts are measured
+ * with the granularity of a tick.
+ */
+public class TimingWheel<T> {
+
+	public final class Timeout {
+
+		private final T value;
+		private long deadline;
+		private Timeout previous;
+		private Timeout next;
+
+		private Timeout(T value) {
+			this.value = value;
+		}
+
+		public boolean cancel() {
+			return TimingWheel.this.cancel(this);
+		}
+
+		public long getDeadline() {
+			return origin + deadline * tickInMillis;
+		}
+
+		public T getValue() {
+			return value;
+		}
+
+		public boolean isScheduled() {
+			synchronized (TimingWheel.this) {
+				return previous != null;
+			}
+		}
+
+		public boolean reschedule(long delay, TimeUnit unit) {
+			return TimingWheel.this.reschedule(this, delay, unit);
+		}
+	}
+
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int SLOT_MASK = SLOTS - 1;
+	private static final int LEVELS = 6;
+	private static final long MAX_DELAY_IN_MILLIS = Long.MAX_VALUE >> 2;
+
+	private final long tickInMillis;
+	private final long origin;
+	private final List<Timeout> slots;
+	private long currentTick;
+	private volatile long currentTimeMillis;
+	private int size;
+
+	public TimingWheel(long tick, TimeUnit unit) {
+		this(tick, unit, System.currentTimeMillis());
+	}
+
+	public TimingWheel(long tick, TimeUnit unit, long nowInMillis) {
+		this.tickInMillis = Require.that(unit.toMillis(tick), unit.toMillis(tick) > 0);
+		this.origin = nowInMillis;
+		this.slots = new ArrayList<>(LEVELS * SLOTS);
+		for (int i = 0; i < LEVELS * SLOTS; i++) {
+			Timeout sentinel = new Timeout(null);
+			sentinel.previous = sentinel;
+			sentinel.next = sentinel;
+			slots.add(sentinel);
+		}
+		this.currentTick = 0;
+		this.currentTimeMillis = nowInMillis;
+		this.size = 0;
+	}
+
+	/**
+	 * Advances the wheel to the current time. See {@link #advance(long, Consumer)}.
+	 */
+	public void advance(Consumer<? super T> expired) {
+		advance(System.currentTimeMillis(), expired);
+	}
+
+	/**
+	 * Advances the wheel to the given time and passes the values of all due timeouts to the given consumer, after the
+	 * wheel has been updated.
+	 */
+	public void advance(long nowInMillis, Consumer<? super T> expired) {
+		List<T> due = new ArrayList<>();
+		synchronized (this) {
+			currentTimeMillis = Math.max(currentTimeMillis, nowInMillis);
+			long targetTick = Math.floorDiv(currentTimeMillis - origin, tickInMillis);
+			while (currentTick < targetTick) {
+				if (size == 0) {
+					currentTick = targetTick;
+					break;
+				}
+				currentTick++;
+				for (int level = 1; level < LEVELS && (currentTick & ((1L << (level * SLOT_BITS)) - 1)) == 0; level++) {
+					relink(slot(level, currentTick >>> (level * SLOT_BITS)), due);
+				}
+				relink(slot(0, currentTick), due);
+			}
+		}
+		due.forEach(expired);
+	}
+
+	public synchronized boolean cancel(Timeout timeout) {
+		if (timeout.previous == null) {
+			return false;
+		}
+		unlink(timeout);
+		return true;
+	}
+
+	/**
+	 * Returns the time of the last advance, which serves as coarse clock.
+	 */
+	public long currentTimeMillis() {
+		return currentTimeMillis;
+	}
+
+	private long deadline(long delay, TimeUnit unit, long nowInMillis) {
+		long delayInMillis = Math.min(Math.max(unit.toMillis(delay), 0), MAX_DELAY_IN_MILLIS);
+		long deadlineInMillis = Math.max(currentTimeMillis, nowInMillis) - origin + delayInMillis;
+		return -Math.floorDiv(-deadlineInMillis, tickInMillis);
+	}
+
+	private void link(Timeout timeout) {
+		long deadline = Math.max(timeout.deadline, currentTick + 1);
+		timeout.deadline = deadline;
+		int level = 0;
+		while (level < LEVELS - 1 && (deadline >>> (level * SLOT_BITS)) - (currentTick >>> (level * SLOT_BITS)) >= SLOTS) {
+			level++;
+		}
+		long current = currentTick >>> (level * SLOT_BITS);
+		// beyond the top level, the timeout is parked at its far end and cascaded again later
+		long index = Math.min(deadline >>> (level * SLOT_BITS), current + SLOT_MASK);
+		Timeout sentinel = slot(level, index);
+		timeout.previous = sentinel.previous;
+		timeout.next = sentinel;
+		sentinel.previous.next = timeout;
+		sentinel.previous = timeout;
+		size++;
+	}
+
+	private void relink(Timeout sentinel, List<T> due) {
+		Timeout timeout = sentinel.next;
+		sentinel.previous = sentinel;
+		sentinel.next = sentinel;
+		while (timeout != sentinel) {
+			Timeout next = timeout.next;
+			timeout.previous = null;
+			timeout.next = null;
+			size--;
+			if (timeout.deadline <= currentTick) {
+				due.add(timeout.value);
+			} else {
+				link(timeout);
+			}
+			timeout = next;
+		}
+	}
+
+	/**
+	 * Moves the deadline of the given timeout, even if it expired or has been canceled before.
+	 */
+	public synchronized boolean reschedule(Timeout timeout, long delay, TimeUnit unit) {
+		long deadline = deadline(delay, unit, currentTimeMillis);
+		boolean scheduled = timeout.previous != null;
+		if (scheduled && timeout.deadline == deadline) {
+			return true;
+		} else if (scheduled) {
+			unlink(timeout);
+		}
+		timeout.deadline = deadline;
+		link(timeout);
+		return scheduled;
+	}
+
+	/**
+	 * Schedules the value to expire after the given delay, measured from the time of the last advance.
+	 */
+	public Timeout schedule(T value, long delay, TimeUnit unit) {
+		return schedule(value, delay, unit, currentTimeMillis);
+	}
+
+	/**
+	 * Schedules the value to expire after the given delay, measured from the given time, unless the wheel has advanced
+	 * beyond it already. Callers reading the clock themselves thereby avoid expiring early, while the last advance lags
+	 * behind.
+	 */
+	public synchronized Timeout schedule(T value, long delay, TimeUnit unit, long nowInMillis) {
+		Timeout timeout = new Timeout(value);
+		timeout.deadline = deadline(delay, unit, nowInMillis);
+		link(timeout);
+		return timeout;
+	}
+
+	public synchronized int size() {
+		return size;
+	}
+
+	private Timeout slot(int level, long index) {
+		return slots.get(level * SLOTS + (int) (index & SLOT_MASK));
+	}
+
+	public long tickInMillis() {
+		return tickInMillis;
+	}
+
+	private void unlink(Timeout timeout) {
+		timeout.previous.next = timeout.next;
+		timeout.next.previous = timeout.previous;
+		timeout.previous = null;
+		timeout.next = null;
+		size--;
+	}
+}
@@ -10,6 +10,7 @@ import java.util.function.Consumer;
 
 import org.ddd4j.io.Bytes;
 import org.ddd4j.io.ReadBuffer;
+import org.ddd4j.io.StringInterner;
 import org.ddd4j.io.WriteBuffer;
 import org.ddd4j.util.Require;
 import org.ddd4j.util.value.Value;
@@ -23,7 +24,7 @@ public class Props extends Value.Simple<Props, Map<String, ?>> implements Config
 		private final Bytes bytes;
 
 		public Entry(ReadBuffer buffer) {
-			this.key = buffer.getUTF();
+			this.key = buffer.getUTF(StringInterner.DEFAULT);
 			this.bytes = null;
 		}
 
@@ -0,0 +1,72 @@
+package org.ddd4j.io;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.ddd4j.util.collection.Cache;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DirectArenaTest {
+
+	private static final int SLAB_SIZE = 4096;
+	private static final int SIZE = 64;
+	private static final long BUDGET = 1024;
+
+	private DirectArena arena;
+	private Cache.ReadThrough<Integer, Bytes.Direct> cache;
+
+	@Before
+	public void init() {
+		arena = new DirectArena(SLAB_SIZE);
+		cache = Cache.<Integer, Bytes.Direct>exclusive(Bytes::length)
+				.evict()
+				.weighedBy((k, v) -> v.length())
+				.withMaximumWeight(BUDGET)
+				.lookupValuesWithEqualKeys()
+				.withFactory(arena::allocate, (k, v) -> v.close());
+	}
+
+	private void churn(int count) {
+		List<Bytes.Direct> acquired = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			acquired.add(cache.acquire(SIZE));
+		}
+		acquired.forEach(cache::release);
+	}
+
+	@Test
+	public void allocateTakesSlicesOfOneSlab() {
+		Bytes.Direct bytes = arena.allocate(SIZE);
+
+		Assert.assertEquals(SIZE, bytes.length());
+		Assert.assertEquals(SLAB_SIZE / SIZE - 1, arena.available(SIZE));
+
+		bytes.close();
+		bytes.close();
+		Assert.assertEquals(SLAB_SIZE / SIZE, arena.available(SIZE));
+	}
+
+	@Test
+	public void churnPastBudgetReturnsEvictedSlicesToArena() {
+		int count = SLAB_SIZE / SIZE;
+		int retained = (int) (BUDGET / SIZE);
+
+		churn(count);
+		Assert.assertEquals(count - retained, arena.available(SIZE));
+
+		for (int round = 0; round < 10; round++) {
+			churn(count);
+			Assert.assertEquals(count - retained, arena.available(SIZE));
+		}
+	}
+
+	@Test
+	public void oversizeIsNotPooled() {
+		Bytes.Direct bytes = arena.allocate(SLAB_SIZE * 2);
+		bytes.close();
+
+		Assert.assertEquals(0, arena.available(SLAB_SIZE * 2));
+	}
+}
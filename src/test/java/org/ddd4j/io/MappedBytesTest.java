@@ -0,0 +1,64 @@
+package org.ddd4j.io;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MappedBytesTest {
+
+	private Path file;
+
+	@Before
+	public void init() throws IOException {
+		file = Files.createTempFile("mapped", ".bin");
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		Files.deleteIfExists(file);
+	}
+
+	@Test
+	public void closeTruncatesToBytesWritten() throws IOException {
+		int end = MappedBytes.PAGE_SIZE * 3 + Long.BYTES;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedBytes bytes = new MappedBytes(channel, MapMode.READ_WRITE, 0);
+			bytes.putInt(0, 42);
+			bytes.putLong(MappedBytes.PAGE_SIZE * 3, 7L);
+
+			Assert.assertEquals(end, bytes.written());
+			bytes.close();
+		}
+		Assert.assertEquals(end, Files.size(file));
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedBytes bytes = new MappedBytes(channel, MapMode.READ_ONLY, 0);
+			Assert.assertEquals(end, bytes.length());
+			Assert.assertEquals(42, bytes.getInt(0));
+			Assert.assertEquals(7L, bytes.getLong(MappedBytes.PAGE_SIZE * 3));
+			bytes.close();
+		}
+	}
+
+	@Test
+	public void writtenStartsAtExistingData() throws IOException {
+		Files.write(file, new byte[100]);
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedBytes bytes = new MappedBytes(channel, MapMode.READ_WRITE, 10);
+			Assert.assertEquals(90, bytes.written());
+			bytes.put(20, (byte) 1);
+			Assert.assertEquals(90, bytes.written());
+			bytes.close();
+		}
+		Assert.assertEquals(100, Files.size(file));
+	}
+}
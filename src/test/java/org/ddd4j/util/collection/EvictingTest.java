@@ -0,0 +1,90 @@
+package org.ddd4j.util.collection;
+
+import java.util.stream.IntStream;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EvictingTest {
+
+	private static String valueOf(int key) {
+		return "v" + key;
+	}
+
+	private Cache.Stats stats;
+
+	@Before
+	public void init() {
+		stats = new Cache.Stats("test");
+	}
+
+	@Test
+	public void evictsDownToMaximumWeight() {
+		Cache.Decorating.Evicting<Integer, String> evicting = Cache.<Integer, String>shared()
+				.evict()
+				.weighedBy((k, v) -> k)
+				.withMaximumWeight(10);
+		Cache.ReadThrough<Integer, String> cache = evicting.recordStats(stats).lookupValuesWithEqualKeys().withFactory(EvictingTest::valueOf);
+
+		cache.acquire(4);
+		cache.acquire(4);
+		cache.acquire(3);
+		Assert.assertEquals(7, evicting.weight());
+
+		// one eviction of any entry suffices
+		cache.acquire(5);
+		Assert.assertTrue(evicting.weight() >= 7 && evicting.weight() <= 9);
+		Assert.assertEquals(1, stats.snapshot().getEvictions(Cache.Stats.Cause.CAPACITY));
+		Assert.assertEquals(evicting.weight(), stats.snapshot().getWeightedSize());
+
+		cache.acquire(9);
+		Assert.assertTrue(evicting.weight() <= 10);
+		Assert.assertEquals(IntStream.of(3, 4, 5, 9).filter(cache::contains).sum(), evicting.weight());
+	}
+
+	@Test
+	public void frequentEntriesWinAdmissionAgainstNewcomers() {
+		Cache.Decorating.Evicting<Integer, String> evicting = Cache.<Integer, String>shared()
+				.evict(Cache.EvictStrategy.LEAST_FREQUENT)
+				.withMaximumCapacity(10);
+		Cache.ReadThrough<Integer, String> cache = evicting.recordStats(stats).lookupValuesWithEqualKeys().withFactory(EvictingTest::valueOf);
+
+		for (int i = 0; i < 15; i++) {
+			cache.acquire(0);
+			cache.acquire(1);
+		}
+		for (int key = 100; key < 150; key++) {
+			cache.acquire(key);
+			Assert.assertTrue(evicting.weight() <= 10);
+		}
+
+		// every sample holds at most these two, so they are never the only choice
+		Assert.assertTrue(cache.contains(0));
+		Assert.assertTrue(cache.contains(1));
+		Assert.assertTrue(cache.contains(149));
+		Assert.assertEquals(42, stats.snapshot().getEvictions(Cache.Stats.Cause.CAPACITY));
+	}
+
+	@Test
+	public void newcomerMoreFrequentThanVictimIsAdmitted() {
+		Cache.Decorating.Evicting<Integer, String> evicting = Cache.<Integer, String>shared()
+				.evict(Cache.EvictStrategy.LEAST_FREQUENT)
+				.withMaximumCapacity(10);
+		Cache.ReadThrough<Integer, String> cache = evicting.lookupValuesWithEqualKeys().withFactory(EvictingTest::valueOf);
+
+		for (int key = 100; key < 110; key++) {
+			cache.acquire(key);
+		}
+		for (int i = 0; i < 15; i++) {
+			cache.acquire(0);
+		}
+		for (int key = 200; key < 250; key++) {
+			cache.acquire(key);
+		}
+
+		// being more frequent than any victim, it wins every admission
+		Assert.assertTrue(cache.contains(0));
+		Assert.assertEquals(10, evicting.weight());
+	}
+}
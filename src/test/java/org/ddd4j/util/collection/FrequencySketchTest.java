@@ -0,0 +1,56 @@
+package org.ddd4j.util.collection;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FrequencySketchTest {
+
+	private static final int CAPACITY = 16;
+	private static final int HASH = 42;
+
+	private FrequencySketch sketch;
+
+	@Before
+	public void init() {
+		sketch = new FrequencySketch(CAPACITY);
+	}
+
+	private void record(int hash, int times) {
+		for (int i = 0; i < times; i++) {
+			sketch.record(hash);
+		}
+	}
+
+	@Test
+	public void countsRecordedHashes() {
+		record(HASH, 3);
+		record(HASH + 1, 1);
+
+		Assert.assertEquals(3, sketch.frequency(HASH));
+		Assert.assertEquals(1, sketch.frequency(HASH + 1));
+		Assert.assertEquals(0, sketch.frequency(HASH + 2));
+	}
+
+	@Test
+	public void saturatesAtFifteen() {
+		record(HASH, 100);
+
+		Assert.assertEquals(15, sketch.frequency(HASH));
+	}
+
+	@Test
+	public void halvesCountersAfterSamplePeriod() {
+		record(HASH, 15);
+
+		int recorded = 0;
+		while (sketch.frequency(HASH) == 15 && recorded < 1000) {
+			sketch.record(1000 + recorded++);
+		}
+
+		// the sample period is 10 times the table size of 16, of which 15 additions were made for the hash
+		Assert.assertTrue(recorded >= 10 * CAPACITY - 15);
+		Assert.assertTrue(recorded < 1000);
+		Assert.assertEquals(7, sketch.frequency(HASH));
+	}
+}
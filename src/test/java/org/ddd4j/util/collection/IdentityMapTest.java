@@ -0,0 +1,61 @@
+package org.ddd4j.util.collection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class IdentityMapTest {
+
+	private IdentityMap<String, Integer> map;
+
+	@Before
+	public void init() {
+		map = new IdentityMap<>();
+	}
+
+	@Test
+	public void comparesKeysByIdentity() {
+		String key = new String("a");
+		String equal = new String("a");
+		map.put(key, 1);
+
+		Assert.assertEquals(Integer.valueOf(1), map.get(key));
+		Assert.assertNull(map.get(equal));
+		Assert.assertNull(map.remove(equal));
+		Assert.assertEquals(1, map.size());
+
+		map.put(equal, 2);
+		Assert.assertEquals(2, map.size());
+		Assert.assertEquals(Integer.valueOf(1), map.remove(key));
+		Assert.assertEquals(Integer.valueOf(2), map.get(equal));
+		Assert.assertEquals(1, map.size());
+	}
+
+	@Test
+	public void iteratesAllValuesDespiteModification() {
+		List<String> keys = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			keys.add(Integer.toString(i));
+			map.put(keys.get(i), i);
+		}
+
+		List<Integer> values = new ArrayList<>();
+		Iterator<Integer> iterator = map.values();
+		while (iterator.hasNext()) {
+			Integer value = iterator.next();
+			values.add(value);
+			map.remove(keys.get(value));
+		}
+
+		Collections.sort(values);
+		Assert.assertEquals(100, values.size());
+		Assert.assertEquals(Integer.valueOf(99), values.get(99));
+		Assert.assertEquals(0, map.size());
+		Assert.assertFalse(map.values().hasNext());
+	}
+}
@@ -0,0 +1,96 @@
+package org.ddd4j.util.collection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MpscArrayQueueTest {
+
+	private static final int PRODUCERS = 4;
+	private static final int ELEMENTS_PER_PRODUCER = 100_000;
+	private static final long TIMEOUT_IN_MILLIS = 30_000;
+
+	@Test
+	public void drainToStopsAtMaximum() {
+		MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(8);
+		for (int i = 0; i < 5; i++) {
+			queue.offer(i);
+		}
+		Integer[] target = new Integer[8];
+
+		Assert.assertEquals(3, queue.drainTo(new RingBuffer.Holder.Array<>(target, 0, target.length), 3));
+		Assert.assertArrayEquals(new Integer[] { 0, 1, 2, null, null, null, null, null }, target);
+		Assert.assertEquals(2, queue.size());
+	}
+
+	@Test
+	public void offerFailsWhenFull() {
+		MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(3);
+		Assert.assertTrue(queue.offer(1));
+		Assert.assertTrue(queue.offer(2));
+		Assert.assertTrue(queue.offer(3));
+
+		Assert.assertFalse(queue.offer(4));
+		Assert.assertEquals(3, queue.size());
+
+		Assert.assertEquals(Integer.valueOf(1), queue.poll());
+		Assert.assertTrue(queue.offer(4));
+	}
+
+	@Test
+	public void pollsInOrder() {
+		MpscArrayQueue<Integer> queue = new MpscArrayQueue<>(4);
+		for (int i = 0; i < 10; i++) {
+			Assert.assertTrue(queue.offer(2 * i));
+			Assert.assertTrue(queue.offer(2 * i + 1));
+			Assert.assertEquals(Integer.valueOf(2 * i), queue.poll());
+			Assert.assertEquals(Integer.valueOf(2 * i + 1), queue.poll());
+		}
+
+		Assert.assertTrue(queue.isEmpty());
+		Assert.assertNull(queue.poll());
+	}
+
+	@Test
+	public void receivesAllElementsOfConcurrentProducersInTheirOrder() throws InterruptedException {
+		MpscArrayQueue<Long> queue = new MpscArrayQueue<>(64);
+		List<Thread> producers = new ArrayList<>();
+		for (int p = 0; p < PRODUCERS; p++) {
+			long producer = p;
+			Thread thread = new Thread(() -> {
+				for (long i = 0; i < ELEMENTS_PER_PRODUCER; i++) {
+					Long element = producer << 32 | i;
+					while (!queue.offer(element)) {
+						Thread.yield();
+					}
+				}
+			});
+			thread.setDaemon(true);
+			producers.add(thread);
+		}
+		producers.forEach(Thread::start);
+
+		long[] expected = new long[PRODUCERS];
+		long deadline = System.currentTimeMillis() + TIMEOUT_IN_MILLIS;
+		int received = 0;
+		while (received < PRODUCERS * ELEMENTS_PER_PRODUCER) {
+			Long element = queue.poll();
+			if (element == null) {
+				Assert.assertTrue("Timed out after " + received + " elements", System.currentTimeMillis() < deadline);
+				Thread.yield();
+				continue;
+			}
+			int producer = (int) (element >>> 32);
+			Assert.assertEquals(expected[producer]++, element & 0xFFFFFFFFL);
+			received++;
+		}
+		for (Thread producer : producers) {
+			producer.join(TIMEOUT_IN_MILLIS);
+		}
+
+		Assert.assertTrue(queue.isEmpty());
+		Assert.assertNull(queue.poll());
+	}
+}
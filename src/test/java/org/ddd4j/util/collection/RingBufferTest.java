@@ -0,0 +1,87 @@
+package org.ddd4j.util.collection;
+
+import java.util.NoSuchElementException;
+
+import org.ddd4j.util.collection.RingBuffer.ProducerType;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RingBufferTest {
+
+	private static void assertWrapsAround(ProducerType producerType) {
+		RingBuffer<Integer> buffer = new RingBuffer<>(4, producerType);
+		for (int i = 0; i < 10; i++) {
+			Assert.assertTrue(buffer.offer(2 * i));
+			Assert.assertTrue(buffer.offer(2 * i + 1));
+			Assert.assertEquals(Integer.valueOf(2 * i), buffer.get());
+			Assert.assertEquals(Integer.valueOf(2 * i + 1), buffer.get());
+		}
+		Assert.assertTrue(buffer.isEmpty());
+		Assert.assertEquals(20, buffer.getOffsetEnd());
+	}
+
+	@Test
+	public void drainToStopsAtMaximum() {
+		RingBuffer<Integer> buffer = new RingBuffer<>(8);
+		for (int i = 0; i < 5; i++) {
+			buffer.offer(i);
+		}
+		Integer[] target = new Integer[8];
+
+		Assert.assertEquals(3, buffer.drainTo(new RingBuffer.Holder.Array<>(target, 0, target.length), 3));
+		Assert.assertArrayEquals(new Integer[] { 0, 1, 2, null, null, null, null, null }, target);
+		Assert.assertEquals(2, buffer.size());
+	}
+
+	@Test
+	public void drainToStopsWhenHolderIsSatisfied() {
+		RingBuffer<Integer> buffer = new RingBuffer<>(8);
+		for (int i = 0; i < 5; i++) {
+			buffer.offer(i);
+		}
+		Integer[] target = new Integer[2];
+
+		Assert.assertEquals(2, buffer.get(target));
+		Assert.assertArrayEquals(new Integer[] { 0, 1 }, target);
+		Assert.assertEquals(Integer.valueOf(2), buffer.getOrNull());
+	}
+
+	@Test
+	public void emptyBufferHasNoElement() {
+		RingBuffer<Integer> buffer = new RingBuffer<>(4);
+
+		Assert.assertTrue(buffer.isEmpty());
+		Assert.assertNull(buffer.getOrNull());
+		Assert.assertEquals(0, buffer.size());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void getFailsWhenEmpty() {
+		new RingBuffer<>(4).get();
+	}
+
+	@Test
+	public void offerFailsWhenFull() {
+		RingBuffer<Integer> buffer = new RingBuffer<>(3);
+		Assert.assertTrue(buffer.offer(1));
+		Assert.assertTrue(buffer.offer(2));
+		Assert.assertTrue(buffer.offer(3));
+
+		Assert.assertTrue(buffer.isFull());
+		Assert.assertFalse(buffer.offer(4));
+		Assert.assertEquals(3, buffer.size());
+
+		Assert.assertEquals(Integer.valueOf(1), buffer.get());
+		Assert.assertTrue(buffer.offer(4));
+	}
+
+	@Test
+	public void wrapsAroundWithMultipleProducers() {
+		assertWrapsAround(ProducerType.MULTI);
+	}
+
+	@Test
+	public void wrapsAroundWithSingleProducer() {
+		assertWrapsAround(ProducerType.SINGLE);
+	}
+}
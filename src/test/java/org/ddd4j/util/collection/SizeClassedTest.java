@@ -0,0 +1,58 @@
+package org.ddd4j.util.collection;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SizeClassedTest {
+
+	private Cache.Access.SizeClassed<byte[]> classes;
+	private Cache.Stats stats;
+	private Cache.ReadThrough<Integer, byte[]> cache;
+
+	@Before
+	public void init() {
+		classes = Cache.sizeClassed(b -> b.length, 64, 1024, 256, Cache.Access.SizeClassed.Oversize.ALLOCATE);
+		stats = new Cache.Stats("test");
+		cache = classes.recordStats(stats).lookupValues(Cache.KeyLookup.CEILING).withFactory(byte[]::new);
+	}
+
+	@Test
+	public void acquireRoundsUpToSizeClass() {
+		byte[] value = cache.acquire(100);
+		cache.release(value);
+
+		Assert.assertEquals(128, value.length);
+		Assert.assertSame(value, cache.acquire(128));
+		Assert.assertEquals(1, classes.sizeClasses().get(1).hits());
+	}
+
+	@Test
+	public void releaseOverBudgetIsRecordedAsEviction() {
+		byte[] first = cache.acquire(256);
+		byte[] second = cache.acquire(256);
+		cache.release(first);
+		cache.release(second);
+
+		Assert.assertEquals(256, classes.retainedSize());
+		Assert.assertEquals(1, classes.sizeClasses().get(2).dropped());
+		Assert.assertEquals(1, stats.snapshot().getEvictions(Cache.Stats.Cause.CAPACITY));
+		Assert.assertEquals(1, stats.snapshot().getSize());
+	}
+
+	@Test
+	public void sizeStaysBoundedWithOversizeValues() {
+		for (int i = 0; i < 10; i++) {
+			cache.release(cache.acquire(4096));
+		}
+
+		Assert.assertEquals(0, classes.retainedSize());
+		Assert.assertEquals(10, stats.snapshot().getEvictions(Cache.Stats.Cause.CAPACITY));
+		Assert.assertEquals(0, stats.snapshot().getSize());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void stripingIsRejected() {
+		Cache.striped(4, classes.recordStats(stats));
+	}
+}
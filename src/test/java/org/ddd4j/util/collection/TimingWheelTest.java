@@ -0,0 +1,104 @@
+package org.ddd4j.util.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TimingWheelTest {
+
+	private static final long TICK = 10;
+
+	private TimingWheel<String> wheel;
+	private List<String> expired;
+
+	@Before
+	public void init() {
+		wheel = new TimingWheel<>(TICK, TimeUnit.MILLISECONDS, 0);
+		expired = new ArrayList<>();
+	}
+
+	private List<String> advance(long nowInMillis) {
+		expired.clear();
+		wheel.advance(nowInMillis, expired::add);
+		return expired;
+	}
+
+	@Test
+	public void cancelledTimeoutDoesNotExpire() {
+		TimingWheel<String>.Timeout timeout = wheel.schedule("a", 20, TimeUnit.MILLISECONDS);
+
+		Assert.assertTrue(timeout.cancel());
+		Assert.assertFalse(timeout.cancel());
+		Assert.assertFalse(timeout.isScheduled());
+		Assert.assertEquals(0, wheel.size());
+		Assert.assertEquals(Collections.emptyList(), advance(100));
+	}
+
+	@Test
+	public void expiresAtDeadlineRoundedUpToTick() {
+		TimingWheel<String>.Timeout timeout = wheel.schedule("a", 25, TimeUnit.MILLISECONDS);
+
+		Assert.assertEquals(30, timeout.getDeadline());
+		Assert.assertEquals(Collections.emptyList(), advance(29));
+		Assert.assertEquals(Arrays.asList("a"), advance(30));
+		Assert.assertFalse(timeout.isScheduled());
+		Assert.assertEquals(Collections.emptyList(), advance(100));
+	}
+
+	@Test
+	public void expiresTimeoutsCascadedFromCoarserLevels() {
+		long[] delays = { 64 * TICK + 10, 64 * 64 * TICK + 30, 64 * 64 * 64 * TICK + 50 };
+		for (long delay : delays) {
+			wheel.schedule(Long.toString(delay), delay, TimeUnit.MILLISECONDS);
+		}
+
+		for (long delay : delays) {
+			Assert.assertEquals(Collections.emptyList(), advance(delay - 1));
+			Assert.assertEquals(Arrays.asList(Long.toString(delay)), advance(delay));
+		}
+		Assert.assertEquals(0, wheel.size());
+	}
+
+	@Test
+	public void expiresAllDueTimeoutsOfOneAdvance() {
+		wheel.schedule("a", 10, TimeUnit.MILLISECONDS);
+		wheel.schedule("b", 500, TimeUnit.MILLISECONDS);
+		wheel.schedule("c", 5000, TimeUnit.MILLISECONDS);
+		wheel.schedule("d", 50000, TimeUnit.MILLISECONDS);
+
+		Assert.assertEquals(Arrays.asList("a", "b", "c"), advance(5000));
+		Assert.assertEquals(1, wheel.size());
+		Assert.assertEquals(5000, wheel.currentTimeMillis());
+	}
+
+	@Test
+	public void measuresDelayFromGivenTimeWhileWheelLags() {
+		advance(100);
+		TimingWheel<String>.Timeout timeout = wheel.schedule("a", 20, TimeUnit.MILLISECONDS, 135);
+
+		Assert.assertEquals(160, timeout.getDeadline());
+		Assert.assertEquals(Collections.emptyList(), advance(150));
+		Assert.assertEquals(Arrays.asList("a"), advance(160));
+
+		timeout = wheel.schedule("b", 20, TimeUnit.MILLISECONDS, 50);
+		Assert.assertEquals(180, timeout.getDeadline());
+	}
+
+	@Test
+	public void rescheduleMovesDeadline() {
+		TimingWheel<String>.Timeout timeout = wheel.schedule("a", 20, TimeUnit.MILLISECONDS);
+
+		Assert.assertTrue(timeout.reschedule(100, TimeUnit.MILLISECONDS));
+		Assert.assertEquals(Collections.emptyList(), advance(90));
+		Assert.assertEquals(Arrays.asList("a"), advance(100));
+
+		Assert.assertFalse(timeout.reschedule(10, TimeUnit.MILLISECONDS));
+		Assert.assertEquals(Arrays.asList("a"), advance(110));
+	}
+}